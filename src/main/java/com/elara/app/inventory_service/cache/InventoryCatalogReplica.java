@@ -0,0 +1,331 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.mapper.InventoryItemMapper;
+import com.elara.app.inventory_service.repository.InventoryCatalogVersion;
+import com.elara.app.inventory_service.repository.InventoryItemChangeLog;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Optional in-memory copy of the whole catalog ({@code inventory.catalog-replica.enabled}), serving
+ * {@code findById}, {@code findAll} and {@code findAllByName} without touching the database.
+ *
+ * <p>The rows live in an immutable snapshot (responses sorted by id, a name order and lower-cased names for
+ * search) that is replaced as a whole under a lock and read from a volatile field. After the initial load the
+ * snapshot is refreshed from {@link InventoryItemChangeLog}: each poll reloads only the rows whose ids were
+ * logged, re-reading the last {@code max-commit-lag} of entries so a transaction that committed late is not
+ * missed. Writes made through this instance are applied directly after commit. A periodic full reload bounds
+ * any remaining drift.
+ *
+ * <p>{@link #catalogVersion()} is the catalog version read before the last reload or poll, so it never runs ahead
+ * of the data the replica serves. A write made through this instance moves it forward at once through
+ * {@link #advanceCatalogVersion(long)}, but only when that write's bump is the next version after the one held:
+ * a larger gap means other writers' changes are not applied yet, and those are left to the next poll.
+ *
+ * <p>Ordering by name uses Java string order, which can differ from the database collation for mixed case.
+ */
+@Slf4j
+@Component
+public class InventoryCatalogReplica {
+
+    private static final String NOMENCLATURE = "InventoryCatalogReplica";
+
+    private final InventoryItemRepository repository;
+    private final InventoryItemMapper mapper;
+    private final InventoryItemChangeLog changeLog;
+    private final InventoryCatalogVersion catalogVersion;
+    private final boolean enabled;
+    private final Duration maxCommitLag;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private Instant watermark = Instant.EPOCH;
+    private volatile long loadedCatalogVersion;
+
+    public InventoryCatalogReplica(
+        InventoryItemRepository repository,
+        InventoryItemMapper mapper,
+        InventoryItemChangeLog changeLog,
+        InventoryCatalogVersion catalogVersion,
+        @Value("${inventory.catalog-replica.enabled:false}") boolean enabled,
+        @Value("${inventory.catalog-replica.max-commit-lag:30s}") Duration maxCommitLag
+    ) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.changeLog = changeLog;
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+        this.maxCommitLag = maxCommitLag;
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${inventory.catalog-replica.full-reload-interval:1h}",
+        fixedDelayString = "${inventory.catalog-replica.full-reload-interval:1h}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            long start = System.nanoTime();
+            // Read the log position and catalog version first: anything committed after them is picked up by the next refresh
+            long version = catalogVersion.current();
+            Instant latest = changeLog.findLatest();
+            List<InventoryItemResponse> items = repository.findAll(Sort.by("id")).stream().map(mapper::toResponse).toList();
+            snapshot = Snapshot.of(items);
+            watermark = latest == null ? Instant.EPOCH : latest;
+            loadedCatalogVersion = version;
+            log.info("[{}] Loaded {} items in {} ms", NOMENCLATURE, items.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.catalog-replica.refresh-interval:5s}")
+    public void refresh() {
+        if (!enabled || snapshot == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            long version = catalogVersion.current();
+            List<InventoryItemChangeLog.Change> changes = changeLog.findSince(watermark.minus(maxCommitLag));
+            if (changes.isEmpty()) {
+                loadedCatalogVersion = version;
+                return;
+            }
+            Set<Long> ids = changes.stream().map(InventoryItemChangeLog.Change::itemId).collect(Collectors.toSet());
+            List<InventoryItemResponse> current = repository.findAllById(ids).stream().map(mapper::toResponse).toList();
+            snapshot = snapshot.with(ids, current);
+            watermark = changes.getLast().changedAt().isAfter(watermark) ? changes.getLast().changedAt() : watermark;
+            loadedCatalogVersion = version;
+            log.debug("[{}] Applied {} changed items, watermark: {}", NOMENCLATURE, ids.size(), watermark);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long catalogVersion() {
+        return loadedCatalogVersion;
+    }
+
+    /**
+     * Adopts {@code bumped}, the catalog version produced by a write already applied here, if no other write
+     * happened since the version currently held.
+     */
+    public void advanceCatalogVersion(long bumped) {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot != null && bumped == loadedCatalogVersion + 1) {
+                loadedCatalogVersion = bumped;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void upsert(InventoryItemResponse item) {
+        upsertAll(List.of(item));
+    }
+
+    public void upsertAll(Collection<InventoryItemResponse> items) {
+        apply(items.stream().map(InventoryItemResponse::id).collect(Collectors.toSet()), items);
+    }
+
+    public void remove(Long id) {
+        apply(Set.of(id), List.of());
+    }
+
+    /**
+     * Returns the item, or {@code null} if the replica does not hold it. Only meaningful when {@link #isReady()}.
+     */
+    public InventoryItemResponse findById(Long id) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        int position = current.positionOf(id);
+        return position < 0 ? null : current.byId[position];
+    }
+
+    /**
+     * Returns the page, or empty when the replica is not loaded or cannot order by the requested sort
+     * (anything other than a single {@code id} or {@code name} order), in which case the caller queries the database.
+     */
+    public Optional<Page<InventoryItemResponse>> findAll(Pageable pageable) {
+        return page(pageable, null);
+    }
+
+    /**
+     * Case-insensitive substring search with the same semantics as {@code findAllByNameContainingIgnoreCase}.
+     */
+    public Optional<Page<InventoryItemResponse>> findAllByName(String name, Pageable pageable) {
+        return page(pageable, name.toLowerCase(Locale.ROOT));
+    }
+
+    private Optional<Page<InventoryItemResponse>> page(Pageable pageable, String term) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        IntUnaryOperator order = current.orderFor(pageable.getSort());
+        if (order == null) {
+            return Optional.empty();
+        }
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<InventoryItemResponse> content = new ArrayList<>(Math.min(limit, current.byId.length));
+        long matches = 0;
+        for (int index = 0; index < current.byId.length; index++) {
+            int position = order.applyAsInt(index);
+            if (term != null && !current.lowerNames[position].contains(term)) {
+                continue;
+            }
+            if (matches >= offset && content.size() < limit) {
+                content.add(current.byId[position]);
+            }
+            matches++;
+        }
+        return Optional.of(new PageImpl<>(content, pageable, matches));
+    }
+
+    private void apply(Set<Long> changedIds, Collection<InventoryItemResponse> items) {
+        if (!enabled || changedIds.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot != null) {
+                snapshot = snapshot.with(changedIds, items);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Immutable replica state. {@code byId} is sorted by id; {@code byName} holds positions in {@code byId}
+     * ordered by name then id; {@code lowerNames} is parallel to {@code byId}.
+     */
+    private record Snapshot(InventoryItemResponse[] byId, long[] ids, int[] byName, String[] lowerNames) {
+
+        private static final Snapshot EMPTY = new Snapshot(new InventoryItemResponse[0], new long[0], new int[0], new String[0]);
+        private static final Comparator<InventoryItemResponse> NAME_ORDER =
+            Comparator.comparing(InventoryItemResponse::name).thenComparingLong(InventoryItemResponse::id);
+
+        static Snapshot of(List<InventoryItemResponse> items) {
+            return EMPTY.with(Set.of(), items);
+        }
+
+        /**
+         * Copy with every changed id replaced by its current row, or dropped if it no longer exists. The unchanged
+         * rows keep their relative order in both indexes, so only the {@code current} rows are sorted and the rest
+         * is a linear merge: O(n + k log n) for k changed rows instead of a full re-sort.
+         */
+        Snapshot with(Set<Long> changedIds, Collection<InventoryItemResponse> current) {
+            int size = byId.length;
+            boolean[] dropped = new boolean[size];
+            for (Long id : changedIds) {
+                int position = positionOf(id);
+                if (position >= 0) {
+                    dropped[position] = true;
+                }
+            }
+            InventoryItemResponse[] added = current.toArray(InventoryItemResponse[]::new);
+            Arrays.sort(added, Comparator.comparingLong(InventoryItemResponse::id));
+
+            // Merge by id; an unchanged row with the id of an added one is replaced as well
+            InventoryItemResponse[] mergedById = new InventoryItemResponse[size + added.length];
+            long[] mergedIds = new long[mergedById.length];
+            String[] mergedLowerNames = new String[mergedById.length];
+            int[] movedTo = new int[size];
+            int count = 0;
+            for (int position = 0, next = 0; position < size || next < added.length; ) {
+                boolean takeKept = position < size && (next == added.length || ids[position] < added[next].id());
+                if (position < size && (dropped[position] || (next < added.length && ids[position] == added[next].id()))) {
+                    movedTo[position++] = -1;
+                } else if (takeKept) {
+                    mergedById[count] = byId[position];
+                    mergedLowerNames[count] = lowerNames[position];
+                    mergedIds[count] = ids[position];
+                    movedTo[position++] = count++;
+                } else {
+                    InventoryItemResponse item = added[next++];
+                    mergedById[count] = item;
+                    mergedLowerNames[count] = item.name().toLowerCase(Locale.ROOT);
+                    mergedIds[count++] = item.id();
+                }
+            }
+            if (count < mergedById.length) {
+                mergedById = Arrays.copyOf(mergedById, count);
+                mergedIds = Arrays.copyOf(mergedIds, count);
+                mergedLowerNames = Arrays.copyOf(mergedLowerNames, count);
+            }
+
+            // Merge by name: the kept rows in their existing order with the added rows sorted by name
+            Arrays.sort(added, NAME_ORDER);
+            int[] mergedByName = new int[count];
+            int filled = 0;
+            int next = 0;
+            for (int index = 0; index < size; index++) {
+                int kept = movedTo[byName[index]];
+                if (kept < 0) {
+                    continue;
+                }
+                while (next < added.length && NAME_ORDER.compare(added[next], mergedById[kept]) < 0) {
+                    mergedByName[filled++] = Arrays.binarySearch(mergedIds, added[next++].id());
+                }
+                mergedByName[filled++] = kept;
+            }
+            while (next < added.length) {
+                mergedByName[filled++] = Arrays.binarySearch(mergedIds, added[next++].id());
+            }
+            return new Snapshot(mergedById, mergedIds, mergedByName, mergedLowerNames);
+        }
+
+        int positionOf(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        IntUnaryOperator orderFor(Sort sort) {
+            if (sort.isUnsorted()) {
+                return index -> index;
+            }
+            List<Sort.Order> orders = sort.toList();
+            if (orders.size() != 1 || orders.getFirst().isIgnoreCase()) {
+                return null;
+            }
+            Sort.Order order = orders.getFirst();
+            int last = byId.length - 1;
+            return switch (order.getProperty()) {
+                case "id" -> order.isAscending() ? index -> index : index -> last - index;
+                case "name" -> order.isAscending() ? index -> byName[index] : index -> byName[last - index];
+                default -> null;
+            };
+        }
+    }
+
+}
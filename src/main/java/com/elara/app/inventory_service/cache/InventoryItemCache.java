@@ -0,0 +1,138 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * In-process cache of item responses by id, in front of {@code findById}.
+ *
+ * <p>Writers call {@link #evict} after their transaction commits. That drops the local entry and, when
+ * Spring Cloud Bus is active, broadcasts an {@link InventoryItemCacheEvictionEvent} so the other replicas
+ * drop theirs. The TTL bounds staleness if a broadcast is lost.
+ *
+ * <p>Loads run on the caller's thread outside any map lock: the cache only holds a future while the row is read,
+ * so a virtual thread waiting on JDBC is never pinned to its carrier by the map's internal {@code synchronized}.
+ */
+@Slf4j
+@Component
+public class InventoryItemCache {
+
+    private static final String NOMENCLATURE = "InventoryItemCache";
+    public static final String CACHE_NAME = "inventory.item";
+
+    private final AsyncCache<Long, InventoryItemResponse> cache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    @Autowired
+    public InventoryItemCache(
+        @Value("${inventory.item-cache.ttl:10m}") Duration ttl,
+        @Value("${inventory.item-cache.max-size:10000}") long maxSize,
+        MeterRegistry meterRegistry,
+        ApplicationEventPublisher eventPublisher,
+        ObjectProvider<BusProperties> busProperties,
+        ObjectProvider<Destination.Factory> destinationFactory
+    ) {
+        this(ttl, maxSize, meterRegistry, eventPublisher, busProperties.getIfAvailable(), destinationFactory.getIfAvailable(),
+            Ticker.systemTicker());
+    }
+
+    InventoryItemCache(Duration ttl, long maxSize, MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher,
+                       BusProperties busProperties, Destination.Factory destinationFactory, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync();
+        this.eventPublisher = eventPublisher;
+        this.busProperties = busProperties;
+        this.destinationFactory = destinationFactory;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, cached -> cached.synchronous().stats().hitRate())
+            .tag("cache", CACHE_NAME)
+            .description("Share of lookups served from the cache since startup")
+            .register(meterRegistry);
+        log.info("[{}] Initialized with ttl: {}, maxSize: {}, bus broadcast: {}", NOMENCLATURE, ttl, maxSize, isBusActive());
+    }
+
+    /**
+     * Returns the cached response or loads it. Concurrent callers for the same id share one load. An eviction
+     * that arrives while the load is running removes the pending entry, so a load that read the old row is never
+     * left behind. Nothing is cached when the loader throws.
+     */
+    public InventoryItemResponse get(Long id, Function<Long, InventoryItemResponse> loader) {
+        CompletableFuture<InventoryItemResponse> loading = new CompletableFuture<>();
+        CompletableFuture<InventoryItemResponse> cached = cache.get(id, (key, executor) -> loading);
+        if (cached == loading) {
+            try {
+                loading.complete(loader.apply(id));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the entry here and on every other replica. Call after the change has committed.
+     */
+    public void evict(Long id) {
+        evictLocally(id);
+        if (isBusActive()) {
+            eventPublisher.publishEvent(new InventoryItemCacheEvictionEvent(
+                this, busProperties.getId(), destinationFactory.getDestination(null), id));
+        }
+    }
+
+    @EventListener
+    public void onEviction(InventoryItemCacheEvictionEvent event) {
+        log.debug("[{}] Eviction of item {} received from {}", NOMENCLATURE, event.getItemId(), event.getOriginService());
+        evictLocally(event.getItemId());
+    }
+
+    public void evictLocally(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private boolean isBusActive() {
+        return busProperties != null && busProperties.isEnabled() && destinationFactory != null;
+    }
+
+}
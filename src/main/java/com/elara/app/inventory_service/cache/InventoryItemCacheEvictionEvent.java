@@ -0,0 +1,22 @@
+package com.elara.app.inventory_service.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Broadcast over Spring Cloud Bus when an item changes, so every replica drops its cached copy.
+ */
+@Getter
+@NoArgsConstructor
+public class InventoryItemCacheEvictionEvent extends RemoteApplicationEvent {
+
+    private Long itemId;
+
+    public InventoryItemCacheEvictionEvent(Object source, String originService, Destination destination, Long itemId) {
+        super(source, originService, destination);
+        this.itemId = itemId;
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bloom filter of lower-cased item names, used to skip the database lookup for names that are definitely new.
+ *
+ * <p>A negative answer is only as fresh as the filter: it holds every name present at the last rebuild plus the
+ * names written through this instance since, so a name created by another instance can get past it. Callers must
+ * keep the unique index as the final arbiter. Deleted and renamed names stay in the filter until the next periodic
+ * rebuild, which only costs false positives.
+ */
+@Slf4j
+@Component
+public class ItemNameBloomFilter {
+
+    private static final String NOMENCLATURE = "ItemNameBloomFilter";
+    public static final String METRIC_PREFIX = "inventory.item.name.filter";
+
+    private final InventoryItemRepository repository;
+    private final long expectedInsertions;
+    private final double targetFalsePositiveRate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final LongAdder trueNegatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile Bits current;
+    private volatile Bits building;
+
+    public ItemNameBloomFilter(
+        InventoryItemRepository repository,
+        MeterRegistry meterRegistry,
+        @Value("${inventory.name-filter.expected-insertions:100000}") long expectedInsertions,
+        @Value("${inventory.name-filter.false-positive-rate:0.01}") double targetFalsePositiveRate
+    ) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", this, ItemNameBloomFilter::observedFalsePositiveRate)
+            .description("Share of names absent from the database that the filter still reported as possibly present")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected.false.positive.rate", this, ItemNameBloomFilter::expectedFalsePositiveRate)
+            .description("False-positive rate predicted from the current fill of the filter")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the filter from the database. Names written while the rebuild runs go into both the old and the
+     * new filter, so none are lost in the swap. Counters restart with every rebuild.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${inventory.name-filter.rebuild-interval:15m}",
+        fixedDelayString = "${inventory.name-filter.rebuild-interval:15m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            long count = repository.count();
+            Bits next = Bits.sized(Math.max(expectedInsertions, count * 2), targetFalsePositiveRate);
+            building = next;
+            List<ItemNameSuggestion> items = repository.findAllNames();
+            items.forEach(item -> next.add(normalize(item.name())));
+            current = next;
+            building = null;
+            trueNegatives.reset();
+            falsePositives.reset();
+            log.info("[{}] Loaded {} names into {} bits with {} hashes in {} ms", NOMENCLATURE, items.size(),
+                next.bitCount, next.hashCount, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code false} only if no item had this name (case-insensitively) at the last rebuild and none has
+     * been written with it through this instance since. Always {@code true} before the first rebuild.
+     */
+    public boolean mightContain(String name) {
+        Bits bits = current;
+        if (bits == null || bits.mightContain(normalize(name))) {
+            return true;
+        }
+        trueNegatives.increment();
+        return false;
+    }
+
+    /**
+     * Records names the filter reported as possibly present that the database then did not have.
+     */
+    public void recordFalsePositives(int count) {
+        falsePositives.add(count);
+    }
+
+    public void put(String name) {
+        String key = normalize(name);
+        Bits bits = current;
+        if (bits != null) {
+            bits.add(key);
+        }
+        Bits next = building;
+        if (next != null) {
+            next.add(key);
+        }
+    }
+
+    public void putAll(Collection<String> names) {
+        names.forEach(this::put);
+    }
+
+    public double observedFalsePositiveRate() {
+        long positives = falsePositives.sum();
+        long negatives = positives + trueNegatives.sum();
+        return negatives == 0 ? 0.0 : (double) positives / negatives;
+    }
+
+    public double expectedFalsePositiveRate() {
+        Bits bits = current;
+        return bits == null ? 1.0 : bits.expectedFalsePositiveRate();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fixed-size bit array probed with double hashing ({@code h1 + i * h2}). Bits are only ever set, with
+     * compare-and-set, so concurrent adds and reads need no lock.
+     */
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        private Bits(long bitCount, int hashCount) {
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+            this.bitCount = (long) words.length() * 64;
+            this.hashCount = hashCount;
+        }
+
+        static Bits sized(long expectedInsertions, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+            return new Bits(Math.max(64, bits), hashes);
+        }
+
+        void add(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int index = 0; index < hashCount; index++) {
+                set(Long.remainderUnsigned(hash1 + index * hash2, bitCount));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int index = 0; index < hashCount; index++) {
+                if (!get(Long.remainderUnsigned(hash1 + index * hash2, bitCount))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFalsePositiveRate() {
+            long set = 0;
+            for (int index = 0; index < words.length(); index++) {
+                set += Long.bitCount(words.get(index));
+            }
+            return Math.pow((double) set / bitCount, hashCount);
+        }
+
+        private void set(long bit) {
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long value = words.get(word);
+            while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+                value = words.get(word);
+            }
+        }
+
+        private boolean get(long bit) {
+            return (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+        }
+
+        // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer for better bit dispersion
+        private static long hash(String key) {
+            long hash = 0xCBF29CE484222325L;
+            for (byte value : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= value;
+                hash *= 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xFF51AFD7ED558CCDL;
+            value ^= value >>> 33;
+            value *= 0xC4CEB93FE53E2695L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+
+}
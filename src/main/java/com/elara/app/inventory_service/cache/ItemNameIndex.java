@@ -0,0 +1,282 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process word-prefix index over item names, used for autocomplete without touching the database.
+ *
+ * <p>Every word start of a lower-cased name becomes one key, so {@code "bol"} finds {@code "Steel Bolt M10"}.
+ * Keys are kept in a sorted {@code String[]} with the owning ids in a parallel {@code long[]}, and a lookup is a
+ * binary search followed by a short forward scan. The arrays live in an immutable snapshot that readers pick up
+ * from a volatile field without locking; writers copy and replace it under a lock.
+ *
+ * <p>Only writes made through this instance are applied incrementally. Names written by other instances show up
+ * after the next rebuild from the database, at startup and every {@code inventory.name-index.rebuild-interval}.
+ */
+@Slf4j
+@Component
+public class ItemNameIndex {
+
+    private static final String NOMENCLATURE = "ItemNameIndex";
+
+    private final InventoryItemRepository repository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // Writes made while a rebuild reads the database, replayed onto its result; a null name is a removal
+    private Map<Long, String> pendingDuringRebuild;
+
+    public ItemNameIndex(InventoryItemRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Rebuilds the index from the database. The query and the build run without the lock, so writers are not held
+     * up; writes made in the meantime are recorded and replayed onto the new snapshot before it is published.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${inventory.name-index.rebuild-interval:15m}",
+        fixedDelayString = "${inventory.name-index.rebuild-interval:15m}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        writeLock.lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new HashMap<>();
+        } finally {
+            writeLock.unlock();
+        }
+        Snapshot rebuilt = null;
+        try {
+            rebuilt = Snapshot.of(repository.findAllNames());
+        } finally {
+            writeLock.lock();
+            try {
+                if (rebuilt != null) {
+                    snapshot = rebuilt.merge(pendingDuringRebuild);
+                }
+                pendingDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        log.info("[{}] Indexed {} item names ({} keys) in {} ms", NOMENCLATURE, snapshot.ids.length,
+            snapshot.keys.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Returns up to {@code limit} items with a word starting with {@code prefix} (case-insensitive),
+     * ordered by the matching key.
+     */
+    public List<ItemNameSuggestion> autocomplete(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String key = normalize(prefix);
+        List<ItemNameSuggestion> matches = new ArrayList<>(Math.min(limit, 16));
+        long[] seen = new long[limit];
+        for (int position = current.lowerBound(key); position < current.keys.length && matches.size() < limit; position++) {
+            if (!current.keys[position].startsWith(key)) {
+                break;
+            }
+            long id = current.keyIds[position];
+            if (!contains(seen, matches.size(), id)) {
+                seen[matches.size()] = id;
+                matches.add(new ItemNameSuggestion(id, current.nameOf(id)));
+            }
+        }
+        return matches;
+    }
+
+    public void put(Long id, String name) {
+        putAll(List.of(new ItemNameSuggestion(id, name)));
+    }
+
+    public void putAll(Collection<ItemNameSuggestion> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<Long, String> changes = new HashMap<>(items.size() * 2);
+        items.forEach(item -> changes.put(item.id(), item.name()));
+        apply(changes);
+    }
+
+    public void remove(Long id) {
+        Map<Long, String> changes = new HashMap<>(2);
+        changes.put(id, null);
+        apply(changes);
+    }
+
+    public int size() {
+        return snapshot.ids.length;
+    }
+
+    private void apply(Map<Long, String> changes) {
+        writeLock.lock();
+        try {
+            snapshot = snapshot.merge(changes);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.putAll(changes);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int index = 0; index < length; index++) {
+            if (values[index] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Immutable index state. {@code ids}/{@code names} are sorted by id; {@code keys}/{@code keyIds} are sorted by key.
+     */
+    private record Snapshot(long[] ids, String[] names, String[] keys, long[] keyIds) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new String[0], new long[0]);
+
+        static Snapshot of(List<ItemNameSuggestion> items) {
+            ItemNameSuggestion[] byId = items.toArray(ItemNameSuggestion[]::new);
+            Arrays.sort(byId, (left, right) -> Long.compare(left.id(), right.id()));
+            long[] ids = new long[byId.length];
+            String[] names = new String[byId.length];
+            List<String> keyList = new ArrayList<>(byId.length * 3);
+            List<Long> keyIdList = new ArrayList<>(byId.length * 3);
+            for (int index = 0; index < byId.length; index++) {
+                ids[index] = byId[index].id();
+                names[index] = byId[index].name();
+                for (String key : keysOf(names[index])) {
+                    keyList.add(key);
+                    keyIdList.add(ids[index]);
+                }
+            }
+            Integer[] order = new Integer[keyList.size()];
+            Arrays.setAll(order, index -> index);
+            Arrays.sort(order, (left, right) -> keyList.get(left).compareTo(keyList.get(right)));
+            String[] keys = new String[order.length];
+            long[] keyIds = new long[order.length];
+            for (int index = 0; index < order.length; index++) {
+                keys[index] = keyList.get(order[index]);
+                keyIds[index] = keyIdList.get(order[index]);
+            }
+            return new Snapshot(ids, names, keys, keyIds);
+        }
+
+        /**
+         * Copy with every id in {@code changes} given its new name, or dropped when the name is {@code null}, in one
+         * pass: the untouched entries keep their order and only the new keys are sorted, O(n + k log k) for k changes
+         * instead of one array copy per change.
+         */
+        Snapshot merge(Map<Long, String> changes) {
+            if (changes.isEmpty()) {
+                return this;
+            }
+            long[] changedIds = changes.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            List<ItemNameSuggestion> upserts = new ArrayList<>(changedIds.length);
+            for (long id : changedIds) {
+                String name = changes.get(id);
+                if (name != null) {
+                    upserts.add(new ItemNameSuggestion(id, name));
+                }
+            }
+
+            long[] newIds = new long[ids.length + upserts.size()];
+            String[] newNames = new String[newIds.length];
+            int count = 0;
+            for (int position = 0, next = 0; position < ids.length || next < upserts.size(); ) {
+                if (next == upserts.size() || (position < ids.length && ids[position] < upserts.get(next).id())) {
+                    if (Arrays.binarySearch(changedIds, ids[position]) < 0) {
+                        newIds[count] = ids[position];
+                        newNames[count++] = names[position];
+                    }
+                    position++;
+                } else {
+                    if (position < ids.length && ids[position] == upserts.get(next).id()) {
+                        position++;
+                    }
+                    newIds[count] = upserts.get(next).id();
+                    newNames[count++] = upserts.get(next++).name();
+                }
+            }
+
+            Snapshot added = of(upserts);
+            String[] newKeys = new String[keys.length + added.keys.length];
+            long[] newKeyIds = new long[newKeys.length];
+            int target = 0;
+            int fresh = 0;
+            for (int existing = 0; existing < keys.length; existing++) {
+                if (Arrays.binarySearch(changedIds, keyIds[existing]) >= 0) {
+                    continue;
+                }
+                while (fresh < added.keys.length && added.keys[fresh].compareTo(keys[existing]) < 0) {
+                    newKeys[target] = added.keys[fresh];
+                    newKeyIds[target++] = added.keyIds[fresh++];
+                }
+                newKeys[target] = keys[existing];
+                newKeyIds[target++] = keyIds[existing];
+            }
+            while (fresh < added.keys.length) {
+                newKeys[target] = added.keys[fresh];
+                newKeyIds[target++] = added.keyIds[fresh++];
+            }
+            return new Snapshot(Arrays.copyOf(newIds, count), Arrays.copyOf(newNames, count),
+                Arrays.copyOf(newKeys, target), Arrays.copyOf(newKeyIds, target));
+        }
+
+        int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        String nameOf(long id) {
+            return names[Arrays.binarySearch(ids, id)];
+        }
+
+        /**
+         * One key per word start: the lower-cased name from that position to the end.
+         */
+        static String[] keysOf(String name) {
+            String lower = normalize(name);
+            List<String> keys = new ArrayList<>(4);
+            for (int index = 0; index < lower.length(); index++) {
+                boolean wordStart = index == 0 || !Character.isLetterOrDigit(lower.charAt(index - 1));
+                if (wordStart && Character.isLetterOrDigit(lower.charAt(index))) {
+                    keys.add(lower.substring(index));
+                }
+            }
+            return keys.toArray(String[]::new);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.UomCacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/uomcache}) to inspect and flush the UOM verification cache.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "uomcache")
+@RequiredArgsConstructor
+public class UomCacheEndpoint {
+
+    private static final String NOMENCLATURE = "UomCacheEndpoint";
+    private final UomVerificationCache cache;
+
+    @ReadOperation
+    public UomCacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new UomCacheStatsResponse(
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount()
+        );
+    }
+
+    @DeleteOperation
+    public void flush() {
+        log.info("[{}] Flush requested", NOMENCLATURE);
+        cache.invalidateAll();
+    }
+
+}
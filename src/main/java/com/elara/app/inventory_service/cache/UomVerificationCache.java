@@ -0,0 +1,121 @@
+package com.elara.app.inventory_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of UOM existence checks, shared by every caller of the UOM client.
+ * Found and not-found ids expire independently so a newly created UOM is picked up quickly
+ * while the ids that already exist stay cached for a long time.
+ *
+ * <p>Found ids are also remembered for {@code fallback-ttl} after they were last confirmed. That record is never
+ * used for normal lookups, only by the UOM client to keep accepting known ids while unit-of-measure-service is
+ * unavailable.
+ */
+@Slf4j
+@Component
+public class UomVerificationCache {
+
+    private static final String NOMENCLATURE = "UomVerificationCache";
+    public static final String CACHE_NAME = "uom.verification";
+
+    private final Cache<Long, Boolean> cache;
+    private final Cache<Long, Boolean> confirmed;
+
+    @Autowired
+    public UomVerificationCache(
+        @Value("${uom.cache.found-ttl:30m}") Duration foundTtl,
+        @Value("${uom.cache.not-found-ttl:1m}") Duration notFoundTtl,
+        @Value("${uom.cache.fallback-ttl:2h}") Duration fallbackTtl,
+        @Value("${uom.cache.max-size:1000}") long maxSize,
+        MeterRegistry meterRegistry
+    ) {
+        this(foundTtl, notFoundTtl, fallbackTtl, maxSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    UomVerificationCache(Duration foundTtl, Duration notFoundTtl, Duration fallbackTtl, long maxSize, MeterRegistry meterRegistry,
+                         Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new VerificationExpiry(foundTtl, notFoundTtl))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        this.confirmed = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(fallbackTtl)
+            .ticker(ticker)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("[{}] Initialized with foundTtl: {}, notFoundTtl: {}, fallbackTtl: {}, maxSize: {}", NOMENCLATURE, foundTtl,
+            notFoundTtl, fallbackTtl, maxSize);
+    }
+
+    /**
+     * Returns {@code TRUE} if the UOM is known to exist, {@code FALSE} if it is known to be missing,
+     * or {@code null} when the id has not been verified recently.
+     */
+    public Boolean getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void put(Long id, boolean exists) {
+        cache.put(id, exists);
+        if (exists) {
+            confirmed.put(id, Boolean.TRUE);
+        } else {
+            confirmed.invalidate(id);
+        }
+    }
+
+    /**
+     * Whether the UOM was confirmed to exist within the last {@code fallback-ttl}, even if its regular entry expired.
+     */
+    public boolean isRecentlyConfirmed(Long id) {
+        return confirmed.getIfPresent(id) != null;
+    }
+
+    public void invalidateAll() {
+        log.info("[{}] Flushing {} cached UOM verifications", NOMENCLATURE, cache.estimatedSize());
+        cache.invalidateAll();
+        confirmed.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record VerificationExpiry(Duration foundTtl, Duration notFoundTtl) implements Expiry<Long, Boolean> {
+
+        @Override
+        public long expireAfterCreate(Long id, Boolean exists, long currentTime) {
+            return Boolean.TRUE.equals(exists) ? foundTtl.toNanos() : notFoundTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long id, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long id, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -1,15 +1,242 @@
 package com.elara.app.inventory_service.config;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.ChannelOption;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class AppConfig {
+
+    public static final String UOM_POOL_NAME = "uom-service";
+    public static final String UOM_ASYNC_BULKHEAD_NAME = "uom-service-async";
+    public static final String UOM_BULKHEAD_REJECTED_METRIC = "uom.bulkhead.rejected.calls";
+
     @Bean
     @LoadBalanced
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient uomHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(uomHttpClient));
+    }
+
+    /**
+     * Keep-alive pool for unit-of-measure-service. The load balancer resolves each instance to its own route, so
+     * {@code max-connections-per-route} bounds the connections to one instance and {@code max-connections} the total.
+     * Connections are re-validated after {@code validate-after-inactivity} and retired after {@code time-to-live}
+     * so that instances that went away are not reused.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager uomConnectionManager(
+        @Value("${uom.http.max-connections:50}") int maxConnections,
+        @Value("${uom.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+        @Value("${uom.http.connect-timeout:2s}") Duration connectTimeout,
+        @Value("${uom.http.read-timeout:5s}") Duration readTimeout,
+        @Value("${uom.http.validate-after-inactivity:2s}") Duration validateAfterInactivity,
+        @Value("${uom.http.time-to-live:5m}") Duration timeToLive
+    ) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .build())
+            .build();
+    }
+
+    /**
+     * A background thread closes connections idle for longer than {@code idle-eviction}, below the keep-alive of
+     * the server side, so a request rarely picks up a connection the server has already closed.
+     * {@code pool-timeout} bounds the wait for a free connection when the pool is exhausted.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient uomHttpClient(
+        PoolingHttpClientConnectionManager uomConnectionManager,
+        @Value("${uom.http.read-timeout:5s}") Duration readTimeout,
+        @Value("${uom.http.pool-timeout:1s}") Duration poolTimeout,
+        @Value("${uom.http.idle-eviction:30s}") Duration idleEviction
+    ) {
+        return HttpClients.custom()
+            .setConnectionManager(uomConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(idleEviction))
+            .build();
+    }
+
+    /**
+     * Publishes {@code httpcomponents.httpclient.pool.*} gauges (leased, available, pending, limits) tagged with
+     * {@code httpclient=uom-service}.
+     */
+    @Bean
+    public MeterBinder uomConnectionPoolMetrics(PoolingHttpClientConnectionManager uomConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(uomConnectionManager, UOM_POOL_NAME);
+    }
+
+    /**
+     * Non-blocking counterpart of the {@link RestTemplate}, with the same limits on a Reactor Netty pool.
+     * Connection pool meters are published as {@code reactor.netty.connection.provider.*{name="uom-service"}}.
+     */
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder uomWebClientBuilder(
+        @Value("${uom.http.max-connections:50}") int maxConnections,
+        @Value("${uom.http.connect-timeout:2s}") Duration connectTimeout,
+        @Value("${uom.http.read-timeout:5s}") Duration readTimeout,
+        @Value("${uom.http.pool-timeout:1s}") Duration poolTimeout,
+        @Value("${uom.http.idle-eviction:30s}") Duration idleEviction,
+        @Value("${uom.http.time-to-live:5m}") Duration timeToLive
+    ) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(UOM_POOL_NAME)
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(poolTimeout)
+            .maxIdleTime(idleEviction)
+            .maxLifeTime(timeToLive)
+            .evictInBackground(idleEviction)
+            .metrics(true)
+            .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(readTimeout);
+        return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    @Bean
+    public WebClient uomWebClient(@LoadBalanced WebClient.Builder uomWebClientBuilder) {
+        return uomWebClientBuilder.build();
+    }
+
+    /**
+     * Circuit breaker shared by the blocking and non-blocking UOM calls. It opens when at least
+     * {@code failure-rate-threshold} percent of the last {@code sliding-window-size} calls failed, or
+     * {@code slow-call-rate-threshold} percent took longer than {@code slow-call-duration}, and lets
+     * {@code permitted-calls-in-half-open-state} probes through after {@code wait-in-open-state}.
+     * 4xx answers say nothing about the health of the service and are not counted (404 is not even a failure).
+     */
+    @Bean
+    public CircuitBreakerRegistry uomCircuitBreakerRegistry(
+        @Value("${uom.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${uom.resilience.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+        @Value("${uom.resilience.slow-call-duration:2s}") Duration slowCallDuration,
+        @Value("${uom.resilience.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${uom.resilience.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+        @Value("${uom.resilience.wait-in-open-state:30s}") Duration waitInOpenState,
+        @Value("${uom.resilience.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState
+    ) {
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slowCallDurationThreshold(slowCallDuration)
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(waitInOpenState)
+            .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+            .recordException(failure -> !isClientError(failure))
+            .build());
+    }
+
+    @Bean
+    public CircuitBreaker uomCircuitBreaker(CircuitBreakerRegistry uomCircuitBreakerRegistry) {
+        return uomCircuitBreakerRegistry.circuitBreaker(UOM_POOL_NAME);
+    }
+
+    /**
+     * Caps the UOM calls in flight at {@code max-concurrent-calls}, so a slow service ties up at most that many
+     * request threads. Calls over the cap wait up to {@code max-wait} and are then rejected.
+     */
+    @Bean
+    public BulkheadRegistry uomBulkheadRegistry(
+        @Value("${uom.resilience.max-concurrent-calls:20}") int maxConcurrentCalls,
+        @Value("${uom.resilience.max-wait:0ms}") Duration maxWait
+    ) {
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(maxWait)
+            .build());
+    }
+
+    @Bean
+    public Bulkhead uomBulkhead(BulkheadRegistry uomBulkheadRegistry) {
+        return uomBulkheadRegistry.bulkhead(UOM_POOL_NAME);
+    }
+
+    /**
+     * Bulkhead of the non-blocking calls, with its own {@code max-concurrent-calls} permits and no wait whatever
+     * {@code max-wait} says: the permit is taken on the thread that starts the call, which can be a Reactor event
+     * loop, so a full bulkhead must reject at once rather than block it.
+     */
+    @Bean
+    public Bulkhead uomAsyncBulkhead(BulkheadRegistry uomBulkheadRegistry) {
+        return uomBulkheadRegistry.bulkhead(UOM_ASYNC_BULKHEAD_NAME, BulkheadConfig.from(uomBulkheadRegistry.getDefaultConfig())
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    }
+
+    /**
+     * Publishes {@code resilience4j.circuitbreaker.*} (state, calls by outcome, not permitted calls) and
+     * {@code resilience4j.bulkhead.*} gauges tagged with {@code name=uom-service} and {@code name=uom-service-async},
+     * plus a {@code uom.bulkhead.rejected.calls} counter per bulkhead, which the bulkhead gauges do not provide.
+     */
+    @Bean
+    public MeterBinder uomResilienceMetrics(
+        CircuitBreakerRegistry uomCircuitBreakerRegistry,
+        BulkheadRegistry uomBulkheadRegistry,
+        Bulkhead uomBulkhead,
+        Bulkhead uomAsyncBulkhead
+    ) {
+        return meterRegistry -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(uomCircuitBreakerRegistry).bindTo(meterRegistry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(uomBulkheadRegistry).bindTo(meterRegistry);
+            for (Bulkhead bulkhead : List.of(uomBulkhead, uomAsyncBulkhead)) {
+                Counter rejected = Counter.builder(UOM_BULKHEAD_REJECTED_METRIC)
+                    .description("UOM calls rejected because the bulkhead was full")
+                    .tag("name", bulkhead.getName())
+                    .register(meterRegistry);
+                bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+            }
+        };
+    }
+
+    private static boolean isClientError(Throwable failure) {
+        return failure instanceof HttpClientErrorException
+            || failure instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
     }
 }
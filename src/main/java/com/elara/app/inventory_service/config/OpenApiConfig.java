@@ -12,6 +12,7 @@ import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +21,7 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -42,6 +44,7 @@ public class OpenApiConfig {
                         - **CRUD Operations**: Create, read, update, and delete Inventory Item records
                         - **Pagination & Sorting**: Browse large datasets with configurable page size and sorting
                         - **Search**: Find items by name using case-insensitive partial matching
+                        - **Batch Creation**: Create thousands of items in one call with per-row results
                         - **Validation**: Name uniqueness check and comprehensive input validation
                         - **Cost Management**: Track standard costs and reorder points for inventory items
                         - **UOM Integration**: Associate items with base units of measure
@@ -69,9 +72,11 @@ public class OpenApiConfig {
                 .addSchemas("InventoryItemRequest", createInventoryItemRequestSchema())
                 .addSchemas("InventoryItemUpdate", createInventoryItemUpdateSchema())
                 .addSchemas("InventoryItemPageResponse", createInventoryItemPageResponseSchema())
+                .addSchemas("InventoryItemBatchResponse", createInventoryItemBatchResponseSchema())
                 .addExamples("InventoryItemCreated", examples.get("inventory-item-created"))
                 .addExamples("InventoryItemUpdated", examples.get("inventory-item-updated"))
                 .addExamples("InventoryItemPage", examples.get("inventory-item-page"))
+                .addExamples("InventoryItemBatch", examples.get("inventory-item-batch"))
                 .addExamples("ErrorBadRequestInventoryItem", examples.get("error-bad-request-inventory-item"))
                 .addExamples("ErrorInventoryItemNotFound", examples.get("error-inventory-item-not-found"))
                 .addExamples("ErrorInventoryItemConflict", examples.get("error-inventory-item-conflict"))
@@ -90,6 +95,7 @@ public class OpenApiConfig {
             "inventory-item-created.json",
             "inventory-item-updated.json",
             "inventory-item-page.json",
+            "inventory-item-batch.json",
             "error-bad-request-inventory-item.json",
             "error-inventory-item-not-found.json",
             "error-inventory-item-conflict.json",
@@ -152,12 +158,14 @@ public class OpenApiConfig {
         schema.addProperty("standardCost", new Schema<>().type("number").description("Standard cost per unit").example(2.50));
         schema.addProperty("unitPerPurchaseUom", new Schema<>().type("number").description("Units per purchase UOM").example(100.00));
         schema.addProperty("reorderPointQuantity", new Schema<>().type("number").description("Reorder point quantity").example(500.00));
+        schema.addProperty("version", new Schema<>().type("integer").format("int64").description("Incremented on every update; also returned as the ETag").example(0));
         schema.addRequiredItem("id");
         schema.addRequiredItem("name");
         schema.addRequiredItem("baseUnitOfMeasureId");
         schema.addRequiredItem("standardCost");
         schema.addRequiredItem("unitPerPurchaseUom");
         schema.addRequiredItem("reorderPointQuantity");
+        schema.addRequiredItem("version");
         return schema;
     }
 
@@ -214,4 +222,24 @@ public class OpenApiConfig {
         schema.addProperty("empty", new Schema<>().type("boolean").example(false));
         return schema;
     }
+
+    private Schema<?> createInventoryItemBatchResponseSchema() {
+        Schema<?> result = new Schema<>();
+        result.type("object");
+        result.addProperty("index", new Schema<>().type("integer").description("Position of the row in the request").example(0));
+        result.addProperty("status", new StringSchema()._enum(List.of("CREATED", "FAILED")).example("CREATED"));
+        result.addProperty("item", new Schema<>().$ref("#/components/schemas/InventoryItemResponse"));
+        result.addProperty("code", new Schema<>().type("integer").description("Error code when the row failed").example(1003));
+        result.addProperty("value", new Schema<>().type("string").description("Error code name when the row failed").example("RESOURCE_CONFLICT"));
+        result.addProperty("message", new Schema<>().type("string").description("Error message when the row failed"));
+
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Per-row outcome of a batch creation");
+        schema.addProperty("total", new Schema<>().type("integer").example(2));
+        schema.addProperty("created", new Schema<>().type("integer").example(1));
+        schema.addProperty("failed", new Schema<>().type("integer").example(1));
+        schema.addProperty("results", new ArraySchema().items(result).description("One result per request row, in request order"));
+        return schema;
+    }
 }
@@ -1,32 +1,61 @@
 package com.elara.app.inventory_service.controller;
 
 import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.CursorResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemImportProgress;
 import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.dto.response.SliceResponse;
 import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.elara.app.inventory_service.service.interfaces.InventoryItemImportService;
 import com.elara.app.inventory_service.service.interfaces.InventoryItemService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
 @RestController
 @RequestMapping(value = "item/", produces = MediaType.APPLICATION_JSON_VALUE)
 @RequiredArgsConstructor
@@ -40,8 +69,29 @@ import org.springframework.web.bind.annotation.*;
 public class InventoryItemController {
 
     private final InventoryItemService service;
+    private final InventoryItemImportService importService;
+    private final ObjectMapper objectMapper;
     private static final String ENTITY_NAME = "InventoryItem";
     private static final String NOMENCLATURE = ENTITY_NAME + "-controller";
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    // A single strong item ETag or *; anything else could never match an item version
+    private static final String IF_MATCH_PATTERN = "\\*|\"\\d+\"";
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+        .addColumn("id")
+        .addColumn("name")
+        .addColumn("description")
+        .addColumn("baseUnitOfMeasureId")
+        .addColumn("standardCost")
+        .addColumn("unitPerPurchaseUom")
+        .addColumn("reorderPointQuantity")
+        .addColumn("version")
+        .setUseHeader(true)
+        .build();
 
     // ========================================
     // CREATE OPERATIONS
@@ -86,7 +136,89 @@ public class InventoryItemController {
         log.info("[{}] Creating InventoryItem with name: '{}'", methodNomenclature, request.name());
         InventoryItemResponse response = service.save(request);
         log.info("[{}] Created successfully with id: {}", methodNomenclature, response.id());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(itemETag(response.version()).formattedTag()).body(response);
+    }
+
+    @PostMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create Inventory Items in batch", description = """
+            Creates up to 5000 Inventory Items in one call and reports the outcome of every row.
+            
+            Each row follows the same validation rules as the single create. Invalid rows, duplicate names
+            (in the database or earlier in the same batch) and unknown UOMs are reported per row with the
+            standard error code, value and message; the remaining rows are created.
+            
+            **Status:** `201` when every row was created, `207` when at least one row failed.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Created - Every row was created",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemBatchResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/InventoryItemBatch"))),
+        @ApiResponse(responseCode = "207", description = "Multi-Status - Some rows failed, see per-row results",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemBatchResponse"),
+                examples = @ExampleObject(name = "Partial Failure", ref = "#/components/examples/InventoryItemBatch"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty batch or more than 5000 rows",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<InventoryItemBatchResponse> createBatch(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Inventory Items to create",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/InventoryItemRequest")))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<InventoryItemRequest> requests
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-createBatch";
+        log.info("[{}] Creating batch of {} InventoryItems", methodNomenclature, requests.size());
+        InventoryItemBatchResponse response = service.saveAll(requests);
+        log.info("[{}] Batch created {} of {} items", methodNomenclature, response.created(), response.total());
+        HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping(value = "import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import Inventory Items from a CSV or NDJSON file", description = """
+            Streams a CSV file (`text/csv`, with a header row using the request field names) or an NDJSON file
+            (`application/x-ndjson`, one request object per line) and creates the rows in chunks.
+            
+            Each chunk is validated and inserted in its own transaction, and one NDJSON progress line is written
+            after every committed chunk, listing that chunk's failed rows. The last line is `COMPLETED` or `ABORTED`.
+            
+            **Resuming:** every progress line carries `nextRow`, the first data row (0-indexed) not yet committed.
+            After an abort, fix the file and send it again with `resumeFrom` set to that value.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Streams NDJSON progress lines",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = InventoryItemImportProgress.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid chunkSize or resumeFrom",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "415", description = "Unsupported Media Type - Body is neither CSV nor NDJSON",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse")))
+    })
+    public void importItems(
+        @Parameter(description = "Rows per chunk and transaction", example = "500")
+        @RequestParam(defaultValue = "500") @Min(1) @Max(MAX_BATCH_SIZE) int chunkSize,
+        @Parameter(description = "Number of data rows to skip, taken from nextRow of an earlier run", example = "0")
+        @RequestParam(defaultValue = "0") @PositiveOrZero int resumeFrom,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        final String methodNomenclature = NOMENCLATURE + "-importItems";
+        InventoryItemImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+            ? InventoryItemImportService.Format.NDJSON
+            : InventoryItemImportService.Format.CSV;
+        log.info("[{}] Starting {} import with chunkSize: {}, resumeFrom: {}", methodNomenclature, format, chunkSize, resumeFrom);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        InventoryItemImportProgress result = importService.importItems(request.getInputStream(), format, chunkSize, resumeFrom,
+            progress -> writeLine(output, progress));
+        log.info("[{}] Import finished with status: {}, nextRow: {}", methodNomenclature, result.status(), result.nextRow());
     }
 
     // ========================================
@@ -94,11 +226,17 @@ public class InventoryItemController {
     // ========================================
 
     @GetMapping("{id}")
-    @Operation(summary = "Get Inventory Item by ID", description = "Retrieves a single Inventory Item by its unique identifier")
+    @Operation(summary = "Get Inventory Item by ID", description = """
+            Retrieves a single Inventory Item by its unique identifier.
+            
+            **Conditional GET:** the response carries a strong `ETag` derived from the item `version`. Send it back in
+            `If-None-Match` to get `304 Not Modified` without a body; the check reads only the version, not the item.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Success - Returns the requested item",
             content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemResponse"),
                 examples = @ExampleObject(name = "Success", ref = "#/components/examples/InventoryItemCreated"))),
+        @ApiResponse(responseCode = "304", description = "Not Modified - The ETag in If-None-Match is still current",
+            content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request - Invalid ID format",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
@@ -111,11 +249,20 @@ public class InventoryItemController {
     })
     public ResponseEntity<InventoryItemResponse> getById(
         @Parameter(description = "Inventory Item ID", required = true, example = "1")
-        @PathVariable @NotNull @Positive Long id
+        @PathVariable @NotNull @Positive Long id,
+        @Parameter(description = "ETag of the copy the client holds")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         final String methodNomenclature = NOMENCLATURE + "-getById";
         log.debug("[{}] Fetching InventoryItem with id: {}", methodNomenclature, id);
-        return ResponseEntity.ok(service.findById(id));
+        if (ifNoneMatch != null) {
+            ETag current = itemETag(service.findVersionById(id));
+            if (matchesAny(ifNoneMatch, current)) {
+                return notModified(current);
+            }
+        }
+        InventoryItemResponse item = service.findById(id);
+        return ResponseEntity.ok().eTag(itemETag(item.version()).formattedTag()).body(item);
     }
 
     @GetMapping
@@ -125,22 +272,33 @@ public class InventoryItemController {
             **Pagination Parameters:**
             - `page`: Page number (0-indexed, default: 0)
             - `size`: Page size (default: 20)
-            - `sort`: Sort field and direction (default: name,asc)""")
+            - `sort`: Sort field and direction (default: name,asc)
+            
+            **Conditional GET:** the `ETag` is a catalog-wide version that changes with every write, so
+            `If-None-Match` answers `304 Not Modified` without running the listing query.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Success - Returns paginated items",
             content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemPageResponse"),
                 examples = @ExampleObject(name = "Success", ref = "#/components/examples/InventoryItemPage"))),
+        @ApiResponse(responseCode = "304", description = "Not Modified - No item changed since the ETag in If-None-Match",
+            content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Server Error",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
     })
     public ResponseEntity<Page<InventoryItemResponse>> getAll(
         @Parameter(description = "Pagination parameters", hidden = true)
-        @PageableDefault(size = 20) Pageable pageable
+        @PageableDefault(size = 20) Pageable pageable,
+        @Parameter(description = "ETag of the page the client holds")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         final String methodNomenclature = NOMENCLATURE + "-getAll";
         log.debug("[{}] Fetching all InventoryItems", methodNomenclature);
-        return ResponseEntity.ok(service.findAll(pageable));
+        ETag current = catalogETag();
+        if (ifNoneMatch != null && matchesAny(ifNoneMatch, current)) {
+            return notModified(current);
+        }
+        return ResponseEntity.ok().eTag(current.formattedTag()).body(service.findAll(pageable));
     }
 
     @GetMapping("search")
@@ -148,11 +306,15 @@ public class InventoryItemController {
             Searches for Inventory Items by name using case-insensitive partial matching.
             Returns a paginated list of matching items.
             
-            **Example:** Searching for "bolt" will match "Steel Bolt M10", "Bolt M8", "High-strength bolt", etc.""")
+            **Example:** Searching for "bolt" will match "Steel Bolt M10", "Bolt M8", "High-strength bolt", etc.
+            
+            **Conditional GET:** same catalog-wide `ETag` as `GET /item/`.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Success - Returns paginated matching items",
             content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemPageResponse"),
                 examples = @ExampleObject(name = "Success", ref = "#/components/examples/InventoryItemPage"))),
+        @ApiResponse(responseCode = "304", description = "Not Modified - No item changed since the ETag in If-None-Match",
+            content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request - Name parameter is blank",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
@@ -164,11 +326,185 @@ public class InventoryItemController {
         @Parameter(description = "Name search term (case-insensitive partial match)", required = true, example = "bolt")
         @RequestParam @NotBlank String name,
         @Parameter(description = "Pagination parameters", hidden = true)
-        @PageableDefault(size = 20) Pageable pageable
+        @PageableDefault(size = 20) Pageable pageable,
+        @Parameter(description = "ETag of the page the client holds")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         final String methodNomenclature = NOMENCLATURE + "-getAllByName";
         log.debug("[{}] Searching InventoryItems by name: '{}'", methodNomenclature, name);
-        return ResponseEntity.ok(service.findAllByName(name, pageable));
+        ETag current = catalogETag();
+        if (ifNoneMatch != null && matchesAny(ifNoneMatch, current)) {
+            return notModified(current);
+        }
+        return ResponseEntity.ok().eTag(current.formattedTag()).body(service.findAllByName(name, pageable));
+    }
+
+    @GetMapping("autocomplete")
+    @Operation(summary = "Autocomplete Inventory Item names", description = """
+            Returns items that have a word starting with `prefix` (case-insensitive), for type-ahead inputs.
+            
+            Served from an in-memory index that is built at startup and updated on every write made through this
+            instance, so it never queries the database.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Returns matching ids and names",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ItemNameSuggestion.class)))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank prefix or invalid limit",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest")))
+    })
+    public ResponseEntity<List<ItemNameSuggestion>> autocomplete(
+        @Parameter(description = "Start of any word in the name", required = true, example = "bol")
+        @RequestParam @NotBlank String prefix,
+        @Parameter(description = "Maximum number of suggestions", example = "10")
+        @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_AUTOCOMPLETE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(service.autocomplete(prefix, limit));
+    }
+
+    @GetMapping("slice")
+    @Operation(summary = "Get all Inventory Items without a total count", description = """
+            Retrieves a page of Inventory Items like `GET /item/`, but returns `hasNext` instead of running a
+            `COUNT(*)` query.
+            
+            **Total:** `NONE` (default) leaves `totalElements` empty. `ESTIMATED` fills it from database
+            statistics or a short-lived cached count, which is enough for UIs that show an approximate count.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Returns one page and hasNext",
+            content = @Content(schema = @Schema(implementation = SliceResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid total mode",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<SliceResponse<InventoryItemResponse>> getAllAsSlice(
+        @Parameter(description = "How to fill totalElements", example = "NONE")
+        @RequestParam(defaultValue = "NONE") SliceResponse.Total total,
+        @Parameter(description = "Pagination parameters", hidden = true)
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllAsSlice";
+        log.debug("[{}] Fetching InventoryItems slice with total: {}", methodNomenclature, total);
+        return ResponseEntity.ok(service.findAllAsSlice(pageable, total));
+    }
+
+    @GetMapping("search/slice")
+    @Operation(summary = "Search Inventory Items by name without a total count", description = """
+            Searches like `GET /item/search`, but returns `hasNext` instead of running the count query, which for
+            a partial name match costs as much as the search itself. `total` works like in `GET /item/slice`;
+            the estimate for a search is a cached exact count.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Returns one page of matches and hasNext",
+            content = @Content(schema = @Schema(implementation = SliceResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank name or invalid total mode",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<SliceResponse<InventoryItemResponse>> getAllByNameAsSlice(
+        @Parameter(description = "Name search term (case-insensitive partial match)", required = true, example = "bolt")
+        @RequestParam @NotBlank String name,
+        @Parameter(description = "How to fill totalElements", example = "NONE")
+        @RequestParam(defaultValue = "NONE") SliceResponse.Total total,
+        @Parameter(description = "Pagination parameters", hidden = true)
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByNameAsSlice";
+        log.debug("[{}] Searching InventoryItems slice by name: '{}' with total: {}", methodNomenclature, name, total);
+        return ResponseEntity.ok(service.findAllByNameAsSlice(name, pageable, total));
+    }
+
+    @GetMapping("cursor")
+    @Operation(summary = "Get all Inventory Items with a cursor", description = """
+            Retrieves Inventory Items ordered by name (then id) using keyset pagination.
+            
+            Omit `cursor` for the first page and pass the returned `nextCursor` to get the next one. No total count
+            is computed, and every page costs the same as the first one, however deep the client pages.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Returns one page and the next cursor",
+            content = @Content(schema = @Schema(implementation = CursorResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorResponse<InventoryItemResponse>> getAllByCursor(
+        @Parameter(description = "Continuation token from the previous page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByCursor";
+        log.debug("[{}] Fetching InventoryItems after cursor: {}", methodNomenclature, cursor);
+        return ResponseEntity.ok(service.findAllByCursor(cursor, size));
+    }
+
+    @GetMapping("search/cursor")
+    @Operation(summary = "Search Inventory Items by name with a cursor", description = """
+            Searches for Inventory Items by name using case-insensitive partial matching, ordered by name (then id)
+            with keyset pagination. Works like `GET /item/cursor`.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Returns one page of matches and the next cursor",
+            content = @Content(schema = @Schema(implementation = CursorResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank name, invalid cursor or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorResponse<InventoryItemResponse>> getAllByNameByCursor(
+        @Parameter(description = "Name search term (case-insensitive partial match)", required = true, example = "bolt")
+        @RequestParam @NotBlank String name,
+        @Parameter(description = "Continuation token from the previous page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByNameByCursor";
+        log.debug("[{}] Searching InventoryItems by name: '{}' after cursor: {}", methodNomenclature, name, cursor);
+        return ResponseEntity.ok(service.findAllByNameByCursor(name, cursor, size));
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all Inventory Items as NDJSON", description = """
+            Streams every Inventory Item, ordered by id, as one JSON object per line.
+            
+            The rows come from a single forward-only database cursor and are written straight to the response,
+            so the export runs one query no matter how large the catalog is. Add `format=csv` for CSV.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Streams all items",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(ref = "#/components/schemas/InventoryItemResponse"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public void exportNdjson(HttpServletResponse response) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(InventoryItemResponse.class).withRootValueSeparator("\n");
+        export(response, MediaType.APPLICATION_NDJSON_VALUE, "inventory-items.ndjson", writer);
+    }
+
+    @GetMapping(value = "export", params = "format=csv", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "Export all Inventory Items as CSV", description = """
+            Streams every Inventory Item, ordered by id, as CSV with a header row.
+            
+            The columns match the ones accepted by `POST /item/import`, plus `id`.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Streams all items",
+            content = @Content(mediaType = TEXT_CSV_VALUE)),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public void exportCsv(HttpServletResponse response) throws IOException {
+        ObjectWriter writer = CSV_MAPPER.writerFor(InventoryItemResponse.class).with(CSV_SCHEMA);
+        export(response, TEXT_CSV_VALUE, "inventory-items.csv", writer);
     }
 
     // ========================================
@@ -180,7 +516,11 @@ public class InventoryItemController {
             Updates an existing Inventory Item by ID.
             All fields in the request body are required.
             
-            **Note:** Name uniqueness is validated (excluding the current item)""")
+            **Note:** Name uniqueness is validated (excluding the current item)
+            
+            **Optimistic locking:** send the `ETag` from a previous read or write in `If-Match` to update only if
+            nobody changed the item since; otherwise the update fails with `412 Precondition Failed` and nothing is
+            written. The response carries the new `ETag`, so a client can chain updates without re-reading.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Success - Returns the updated item",
             content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemResponse"),
@@ -191,9 +531,11 @@ public class InventoryItemController {
         @ApiResponse(responseCode = "404", description = "Not Found - Item does not exist",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorInventoryItemNotFound"))),
-        @ApiResponse(responseCode = "409", description = "Conflict - Name already taken by another item",
+        @ApiResponse(responseCode = "409", description = "Conflict - Name already taken by another item, or changed by a concurrent update",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Name Conflict", ref = "#/components/examples/ErrorInventoryItemConflict"))),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed - The item no longer has the version in If-Match",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"))),
         @ApiResponse(responseCode = "500", description = "Internal Server Error",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
@@ -208,13 +550,64 @@ public class InventoryItemController {
                 examples = @ExampleObject(name = "Update Request",
                     value = "{\"name\":\"Steel Bolt M12\",\"description\":\"High-strength steel bolt, metric M12 x 50mm\",\"baseUnitOfMeasureId\":1,\"standardCost\":3.00,\"unitPerPurchaseUom\":100.00,\"reorderPointQuantity\":400.00}"))
         )
-        @Valid @RequestBody InventoryItemUpdate update
+        @Valid @RequestBody InventoryItemUpdate update,
+        @Parameter(description = "ETag of the version being replaced, or * for any version", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Pattern(regexp = IF_MATCH_PATTERN) String ifMatch
     ) {
         final String methodNomenclature = NOMENCLATURE + "-update";
         log.info("[{}] Updating InventoryItem with id: {}", methodNomenclature, id);
-        InventoryItemResponse response = service.update(id, update);
+        InventoryItemResponse response = service.update(id, update, expectedVersion(ifMatch));
         log.info("[{}] Updated successfully with id: {}", methodNomenclature, id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(itemETag(response.version()).formattedTag()).body(response);
+    }
+
+    @PatchMapping(value = "{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    @Operation(summary = "Patch Inventory Item", description = """
+            Updates only the fields present in a JSON Merge Patch (RFC 7396) document.
+            A field set to `null` is cleared; fields that are left out keep their value.
+            
+            The merged item must satisfy the same rules as a full update, so required fields cannot be cleared.
+            The UOM service is only called when `baseUnitOfMeasureId` changes, and the database update only
+            writes the columns whose values changed.
+            
+            **Optimistic locking:** `If-Match` works the same as for `PUT`.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Success - Returns the patched item",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/InventoryItemResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/InventoryItemUpdated"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - The patched item fails validation",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Bad Request", ref = "#/components/examples/ErrorBadRequestInventoryItem"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - Item does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorInventoryItemNotFound"))),
+        @ApiResponse(responseCode = "409", description = "Conflict - Name already taken by another item, or changed by a concurrent update",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Name Conflict", ref = "#/components/examples/ErrorInventoryItemConflict"))),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed - The item no longer has the version in If-Match",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<InventoryItemResponse> patch(
+        @Parameter(description = "Inventory Item ID", required = true, example = "1")
+        @PathVariable @NotNull @Positive Long id,
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Merge patch with the fields to change",
+            content = @Content(mediaType = MERGE_PATCH_JSON_VALUE,
+                examples = @ExampleObject(name = "Patch Request", value = "{\"standardCost\":3.25,\"description\":null}"))
+        )
+        @RequestBody JsonNode mergePatch,
+        @Parameter(description = "ETag of the version being patched, or * for any version", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Pattern(regexp = IF_MATCH_PATTERN) String ifMatch
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-patch";
+        log.info("[{}] Patching InventoryItem with id: {}", methodNomenclature, id);
+        InventoryItemResponse response = service.patch(id, mergePatch, expectedVersion(ifMatch));
+        log.info("[{}] Patched successfully with id: {}", methodNomenclature, id);
+        return ResponseEntity.ok().eTag(itemETag(response.version()).formattedTag()).body(response);
     }
 
     // ========================================
@@ -252,4 +645,61 @@ public class InventoryItemController {
         return ResponseEntity.noContent().build();
     }
 
+    // ========================================
+    // PRIVATE HELPERS
+    // ========================================
+
+    private void export(HttpServletResponse response, String contentType, String fileName, ObjectWriter writer) throws IOException {
+        final String methodNomenclature = NOMENCLATURE + "-export";
+        log.info("[{}] Exporting all InventoryItems as {}", methodNomenclature, contentType);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+        try (SequenceWriter rows = writer.writeValues(response.getOutputStream())) {
+            long exported = service.exportAll(item -> {
+                try {
+                    rows.write(item);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            log.info("[{}] Exported {} InventoryItems", methodNomenclature, exported);
+        }
+    }
+
+    private static ETag itemETag(Long version) {
+        return new ETag(String.valueOf(version), false);
+    }
+
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        ETag tag = ETag.parse(ifMatch).getFirst();
+        return tag.isWildcard() ? null : Long.valueOf(tag.tag());
+    }
+
+    private ETag catalogETag() {
+        return new ETag("catalog-" + service.findCatalogVersion(), false);
+    }
+
+    // If-None-Match uses the weak comparison, so W/"3" also matches "3"
+    private static boolean matchesAny(String ifNoneMatch, ETag current) {
+        return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    private static <T> ResponseEntity<T> notModified(ETag current) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current.formattedTag()).build();
+    }
+
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+            output.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
 }
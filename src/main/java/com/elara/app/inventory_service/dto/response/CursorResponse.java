@@ -0,0 +1,13 @@
+package com.elara.app.inventory_service.dto.response;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+
+) {
+}
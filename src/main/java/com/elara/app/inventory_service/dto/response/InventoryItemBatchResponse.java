@@ -0,0 +1,13 @@
+package com.elara.app.inventory_service.dto.response;
+
+import java.util.List;
+
+public record InventoryItemBatchResponse(
+
+    int total,
+    int created,
+    int failed,
+    List<InventoryItemBatchResult> results
+
+) {
+}
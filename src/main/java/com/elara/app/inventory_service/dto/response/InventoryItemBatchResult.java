@@ -0,0 +1,19 @@
+package com.elara.app.inventory_service.dto.response;
+
+public record InventoryItemBatchResult(
+
+    int index,
+    Status status,
+    InventoryItemResponse item,
+    Integer code,
+    String value,
+    String message
+
+) {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.elara.app.inventory_service.dto.response;
+
+import java.util.List;
+
+public record InventoryItemImportProgress(
+
+    Status status,
+    int chunk,
+    int nextRow,
+    int created,
+    int failed,
+    List<InventoryItemBatchResult> failures,
+    String message
+
+) {
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED,
+        ABORTED
+    }
+
+}
@@ -10,7 +10,8 @@ public record InventoryItemResponse(
     Long baseUnitOfMeasureId,
     BigDecimal standardCost,
     BigDecimal unitPerPurchaseUom,
-    BigDecimal reorderPointQuantity
+    BigDecimal reorderPointQuantity,
+    Long version
 
 ) {
 }
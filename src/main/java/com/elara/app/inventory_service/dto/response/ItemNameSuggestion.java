@@ -0,0 +1,9 @@
+package com.elara.app.inventory_service.dto.response;
+
+public record ItemNameSuggestion(
+
+    Long id,
+    String name
+
+) {
+}
@@ -0,0 +1,25 @@
+package com.elara.app.inventory_service.dto.response;
+
+import java.util.List;
+
+public record SliceResponse<T>(
+
+    List<T> content,
+    int page,
+    int size,
+    boolean hasNext,
+    Long totalElements,
+    Total total
+
+) {
+
+    /**
+     * How {@code totalElements} was obtained: {@code NONE} leaves it {@code null} and runs no count at all,
+     * {@code ESTIMATED} fills it from table statistics or a short-lived cached count.
+     */
+    public enum Total {
+        NONE,
+        ESTIMATED
+    }
+
+}
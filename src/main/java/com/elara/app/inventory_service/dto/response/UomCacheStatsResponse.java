@@ -0,0 +1,12 @@
+package com.elara.app.inventory_service.dto.response;
+
+public record UomCacheStatsResponse(
+
+    long size,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount
+
+) {
+}
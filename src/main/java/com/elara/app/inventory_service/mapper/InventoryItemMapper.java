@@ -11,11 +11,15 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface InventoryItemMapper {
 
+    @Mapping(target = "version", ignore = true)
     InventoryItem toEntity(InventoryItemRequest request);
 
     InventoryItemResponse toResponse(InventoryItem entity);
 
+    InventoryItemUpdate toUpdate(InventoryItem entity);
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDto(@MappingTarget InventoryItem existing, InventoryItemUpdate update);
 
 }
@@ -3,10 +3,16 @@ package com.elara.app.inventory_service.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
 @Entity(name = "inventory_item")
+@Cacheable // Only takes effect with the second-level cache on, i.e. the single-node profile
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = InventoryItem.CACHE_REGION)
+@DynamicUpdate // UPDATEs list only the changed columns, so single-field patches stay small
 @Getter
 @Setter
 @Builder
@@ -14,15 +20,18 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 public class InventoryItem {
 
+    public static final String CACHE_REGION = "inventory_item";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_item_seq")
+    @SequenceGenerator(name = "inventory_item_seq", sequenceName = "inventory_item_seq", allocationSize = 50)
     @Setter(AccessLevel.NONE)
     @Column(name = "id", updatable = false)
     private Long id;
 
     @NotBlank
     @Size(max = 100)
-    @Column(name = "name", unique = true, nullable = false, length = 100)
+    @Column(name = "name", nullable = false, length = 100)
     private String name;
 
     @Size(max = 200)
@@ -52,4 +61,9 @@ public class InventoryItem {
     @Column(name = "reorder_point_quantity", nullable = false, precision = 12, scale = 2)
     private BigDecimal reorderPointQuantity;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
@@ -0,0 +1,75 @@
+package com.elara.app.inventory_service.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.OptionalLong;
+
+/**
+ * Catalog-wide version counter kept in the single row of {@code inventory_catalog_version}, used as the ETag of
+ * the listing endpoints.
+ *
+ * <p>Writers bump it with {@link #increment()} once their change has committed, in a transaction of its own, so the
+ * row lock is held for that single statement rather than for the whole item write and concurrent writers on
+ * different items do not queue behind each other. Until the bump lands a reader can still be told the catalog is
+ * unchanged; the window closes with the bump, or with the next write should the process stop before it.
+ *
+ * <p>The bump is best-effort: the change it describes has already committed, so a failure is logged and counted as
+ * {@code inventory.catalog.version.increment.failures} instead of failing the write, and is made good by the next
+ * successful bump.
+ */
+@Slf4j
+@Component
+public class InventoryCatalogVersion {
+
+    private static final String NOMENCLATURE = "InventoryCatalogVersion";
+    public static final String INCREMENT_FAILURES_METRIC = "inventory.catalog.version.increment.failures";
+    private static final String INCREMENT_VERSION = "UPDATE inventory_catalog_version SET version = version + 1 WHERE id = 1";
+    private static final String SELECT_VERSION = "SELECT version FROM inventory_catalog_version WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate incrementTransaction;
+    private final Counter incrementFailures;
+
+    public InventoryCatalogVersion(DataSource dataSource, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.incrementTransaction = new TransactionTemplate(transactionManager);
+        this.incrementTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.incrementFailures = Counter.builder(INCREMENT_FAILURES_METRIC)
+            .description("Catalog version bumps that failed after the item write had committed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Must run after the transaction that made the change has committed. Always commits on its own, including
+     * from an {@code afterCommit} callback where the finished transaction is still bound to the thread. Never throws.
+     *
+     * @return the version this bump produced, or empty if it failed
+     */
+    public OptionalLong increment() {
+        try {
+            Long bumped = incrementTransaction.execute(status -> {
+                jdbcTemplate.update(INCREMENT_VERSION);
+                return jdbcTemplate.queryForObject(SELECT_VERSION, Long.class);
+            });
+            return bumped == null ? OptionalLong.empty() : OptionalLong.of(bumped);
+        } catch (RuntimeException e) {
+            incrementFailures.increment();
+            log.error("[{}] Catalog version bump failed; listing ETags stay unchanged until the next write", NOMENCLATURE, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    public long current() {
+        Long version = jdbcTemplate.queryForObject(SELECT_VERSION, Long.class);
+        return version == null ? 0 : version;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.elara.app.inventory_service.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only log of item ids touched by writes, read by the in-memory catalog replicas.
+ *
+ * <p>Entries are written with plain JDBC on the connection of the surrounding JPA transaction, so they commit or
+ * roll back with the change itself. Recording is switched on by {@code inventory.catalog-replica.enabled}; the
+ * flag must be set on every node that writes, not only on the ones that read from a replica.
+ */
+@Slf4j
+@Component
+public class InventoryItemChangeLog {
+
+    private static final String NOMENCLATURE = "InventoryItemChangeLog";
+    private static final String INSERT_CHANGE = "INSERT INTO inventory_item_change (item_id) VALUES (?)";
+    private static final String SELECT_CHANGES_SINCE =
+        "SELECT item_id, changed_at FROM inventory_item_change WHERE changed_at > ? ORDER BY changed_at";
+    private static final String SELECT_LATEST_CHANGE = "SELECT MAX(changed_at) FROM inventory_item_change";
+    private static final String DELETE_CHANGES_BEFORE = "DELETE FROM inventory_item_change WHERE changed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+
+    public InventoryItemChangeLog(
+        DataSource dataSource,
+        @Value("${inventory.catalog-replica.enabled:false}") boolean enabled,
+        @Value("${inventory.catalog-replica.change-retention:1d}") Duration retention
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.enabled = enabled;
+        this.retention = retention;
+    }
+
+    public record Change(Long itemId, Instant changedAt) {
+    }
+
+    public void record(Long itemId) {
+        record(List.of(itemId));
+    }
+
+    /**
+     * Appends one entry per id. Must run inside the transaction that made the change.
+     */
+    public void record(Collection<Long> itemIds) {
+        if (!enabled || itemIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, itemIds, itemIds.size(), (statement, itemId) -> statement.setLong(1, itemId));
+    }
+
+    public List<Change> findSince(Instant since) {
+        return jdbcTemplate.query(SELECT_CHANGES_SINCE,
+            (resultSet, row) -> new Change(resultSet.getLong(1), resultSet.getObject(2, OffsetDateTime.class).toInstant()),
+            OffsetDateTime.ofInstant(since, ZoneOffset.UTC));
+    }
+
+    /**
+     * Time of the newest entry by the database clock, or {@code null} when the log is empty.
+     */
+    public Instant findLatest() {
+        OffsetDateTime latest = jdbcTemplate.queryForObject(SELECT_LATEST_CHANGE, OffsetDateTime.class);
+        return latest == null ? null : latest.toInstant();
+    }
+
+    @Scheduled(initialDelayString = "${inventory.catalog-replica.prune-interval:1h}",
+        fixedDelayString = "${inventory.catalog-replica.prune-interval:1h}")
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+        Instant latest = findLatest();
+        if (latest == null) {
+            return;
+        }
+        // Measured from the newest entry rather than the local clock, so clock skew cannot drop unread entries
+        int deleted = jdbcTemplate.update(DELETE_CHANGES_BEFORE, OffsetDateTime.ofInstant(latest.minus(retention), ZoneOffset.UTC));
+        log.info("[{}] Pruned {} entries older than {}", NOMENCLATURE, deleted, retention);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.elara.app.inventory_service.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Approximate row counts for listings that only need a rough total. On PostgreSQL the table total comes
+ * from the planner statistics in {@code pg_class.reltuples}; otherwise, and for name searches, an exact
+ * count is cached for a short time so repeated pages do not pay for it again.
+ */
+@Slf4j
+@Component
+public class InventoryItemCountEstimator {
+
+    private static final String NOMENCLATURE = "InventoryItemCountEstimator";
+    private static final String ALL_ITEMS_KEY = "";
+    private static final String RELTUPLES_QUERY =
+        "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('inventory_item')";
+
+    private final InventoryItemRepository repository;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> counts;
+    private volatile Boolean postgres;
+
+    public InventoryItemCountEstimator(
+        InventoryItemRepository repository,
+        DataSource dataSource,
+        @Value("${inventory.count.cache-ttl:30s}") Duration cacheTtl,
+        @Value("${inventory.count.cache-max-size:1000}") long cacheMaxSize
+    ) {
+        this.repository = repository;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.counts = Caffeine.newBuilder()
+            .expireAfterWrite(cacheTtl)
+            .maximumSize(cacheMaxSize)
+            .build();
+    }
+
+    public long estimateTotal() {
+        if (isPostgres()) {
+            Long reltuples = jdbcTemplate.queryForObject(RELTUPLES_QUERY, Long.class);
+            // reltuples is -1 until the table has been vacuumed or analyzed for the first time
+            if (reltuples != null && reltuples >= 0) {
+                return reltuples;
+            }
+        }
+        return counts.get(ALL_ITEMS_KEY, key -> repository.count());
+    }
+
+    public long estimateByName(String name) {
+        return counts.get(name.toLowerCase(Locale.ROOT), repository::countByNameContainingIgnoreCase);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                postgres = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (MetaDataAccessException exception) {
+                log.warn("[{}] Could not detect database vendor, falling back to cached counts: {}", NOMENCLATURE, exception.getMessage());
+                postgres = Boolean.FALSE;
+            }
+        }
+        return postgres;
+    }
+
+}
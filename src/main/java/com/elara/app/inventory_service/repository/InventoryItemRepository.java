@@ -1,18 +1,96 @@
 package com.elara.app.inventory_service.repository;
 
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
 import com.elara.app.inventory_service.model.InventoryItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
 public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long> {
 
+    /**
+     * With the query cache on (single-node profile), this and the other listing queries with {@code HINT_CACHEABLE}
+     * keep their result ids (and, for pages, the count) in the Hibernate query cache, while the rows come from the
+     * {@link InventoryItem#CACHE_REGION} entity cache. Any write to {@code inventory_item} invalidates every cached
+     * result. Without the profile the hint is ignored.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<InventoryItem> findAll(Pageable pageable);
+
+    /**
+     * Substring search, derived as {@code UPPER(name) LIKE UPPER('%term%')}. On PostgreSQL this and the other
+     * {@code NameContainingIgnoreCase} queries are served by the trigram GIN index on {@code UPPER(name)} from
+     * migration V3, so keep the derived form (or that exact expression) when changing them. Terms shorter than
+     * three characters produce no trigrams and still scan.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<InventoryItem> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
 
-    boolean existsByNameIgnoreCase(String name);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Slice<InventoryItem> findSliceBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Slice<InventoryItem> findSliceByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    long countByNameContainingIgnoreCase(String name);
+
+    Window<InventoryItem> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<InventoryItem> findByNameContainingIgnoreCase(String name, ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Served on PostgreSQL by the unique index on {@code lower(name)} from migration V4.
+     */
+    @Query("SELECT LOWER(i.name) FROM inventory_item i WHERE LOWER(i.name) IN :names")
+    Set<String> findExistingLowerCaseNames(@Param("names") Collection<String> lowerCaseNames);
+
+    /**
+     * Loads the item from the database even when the second-level cache holds it (and refreshes that entry), so
+     * writes check the version against the row rather than a cached copy.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("SELECT i FROM inventory_item i WHERE i.id = :id")
+    Optional<InventoryItem> findCurrentById(@Param("id") Long id);
+
+    /**
+     * Reads only the version column, for conditional requests that can be answered without loading the item.
+     */
+    @Query("SELECT i.version FROM inventory_item i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.elara.app.inventory_service.dto.response.ItemNameSuggestion(i.id, i.name) FROM inventory_item i")
+    List<ItemNameSuggestion> findAllNames();
+
+    /**
+     * Forward-only cursor over every item in id order. Must be consumed and closed inside a transaction;
+     * the fetch size keeps the driver from buffering the whole result set, and the ignore cache mode keeps a
+     * full export from flooding the second-level cache of the single-node profile.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT i FROM inventory_item i ORDER BY i.id")
+    Stream<InventoryItem> streamAllOrderedById();
 
     @Modifying
     @Query("DELETE FROM inventory_item i WHERE i.id = :id")
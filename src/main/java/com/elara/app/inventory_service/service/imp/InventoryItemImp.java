@@ -1,22 +1,65 @@
 package com.elara.app.inventory_service.service.imp;
 
+import com.elara.app.inventory_service.cache.InventoryCatalogReplica;
+import com.elara.app.inventory_service.cache.InventoryItemCache;
+import com.elara.app.inventory_service.cache.ItemNameBloomFilter;
+import com.elara.app.inventory_service.cache.ItemNameIndex;
 import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.CursorResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResult;
 import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.dto.response.SliceResponse;
 import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.elara.app.inventory_service.exceptions.InvalidDataException;
+import com.elara.app.inventory_service.exceptions.PreconditionFailedException;
 import com.elara.app.inventory_service.exceptions.ResourceConflictException;
 import com.elara.app.inventory_service.exceptions.ResourceNotFoundException;
 import com.elara.app.inventory_service.mapper.InventoryItemMapper;
 import com.elara.app.inventory_service.model.InventoryItem;
+import com.elara.app.inventory_service.repository.InventoryCatalogVersion;
+import com.elara.app.inventory_service.repository.InventoryItemChangeLog;
+import com.elara.app.inventory_service.repository.InventoryItemCountEstimator;
 import com.elara.app.inventory_service.repository.InventoryItemRepository;
 import com.elara.app.inventory_service.service.interfaces.InventoryItemService;
 import com.elara.app.inventory_service.service.interfaces.UomServiceClient;
+import com.elara.app.inventory_service.utils.CursorToken;
+import com.elara.app.inventory_service.utils.ErrorCode;
 import com.elara.app.inventory_service.utils.MessageService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -25,41 +68,180 @@ public class InventoryItemImp implements InventoryItemService {
 
     private static final String ENTITY_NAME = "InventoryItem";
     private static final String NOMENCLATURE = ENTITY_NAME + "-service";
+    private static final int NAME_LOOKUP_CHUNK_SIZE = 1000;
+    private static final Sort KEYSET_SORT = Sort.by("name", "id");
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
     private final InventoryItemMapper mapper;
     private final InventoryItemRepository repository;
     private final MessageService messageService;
     private final UomServiceClient uomServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final InventoryItemCountEstimator countEstimator;
+    private final ItemNameIndex nameIndex;
+    private final ItemNameBloomFilter nameFilter;
+    private final InventoryItemCache itemCache;
+    private final InventoryCatalogReplica catalogReplica;
+    private final InventoryItemChangeLog changeLog;
+    private final InventoryCatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
 
+    // Writes run in two phases: the remote UOM check first, with no transaction and no pooled
+    // connection, then a short transaction for the database work. A slow UOM service therefore
+    // never pins a Hikari connection.
+    // On create the UOM check is started without blocking and the name pre-check runs while it is in
+    // flight, so a create waits for the slower of the two rather than their sum, and a taken name fails
+    // without waiting for the UOM service. The unique index still decides races between instances.
     @Override
-    @Transactional
     public InventoryItemResponse save(InventoryItemRequest request) {
         final String methodNomenclature = NOMENCLATURE + "-save";
         log.info("[{}] Creating {} with name: '{}'", methodNomenclature, ENTITY_NAME, request.name());
 
-        validateNameUniqueness(request.name());
-        uomServiceClient.verifyUomById(request.baseUnitOfMeasureId());
+        CompletableFuture<Void> uomCheck = uomServiceClient.verifyUomByIdAsync(request.baseUnitOfMeasureId());
+        if (!findTakenNames(List.of(lowerCaseName(request))).isEmpty()) {
+            String message = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", request.name());
+            throw new ResourceConflictException(message);
+        }
+        await(uomCheck);
 
-        InventoryItem entity = mapper.toEntity(request);
-        InventoryItem saved = repository.save(entity);
+        InventoryItemResponse response = guardNameUniqueness(request.name(), () -> transactionTemplate.execute(status -> {
+            InventoryItem saved = repository.saveAndFlush(mapper.toEntity(request));
+            changeLog.record(saved.getId());
+            return mapper.toResponse(saved);
+        }));
 
-        log.info("[{}] {} created successfully with id: {}", methodNomenclature, ENTITY_NAME, saved.getId());
-        return mapper.toResponse(saved);
+        catalogReplica.upsert(response);
+        nameIndex.put(response.id(), response.name());
+        nameFilter.put(response.name());
+        catalogVersion.increment().ifPresent(catalogReplica::advanceCatalogVersion);
+        log.info("[{}] {} created successfully with id: {}", methodNomenclature, ENTITY_NAME, response.id());
+        return response;
     }
 
+    /**
+     * Creates many items at once and reports the outcome of every row. Rows are validated in memory,
+     * names are checked with one set-based query (skipping names the Bloom filter rules out), UOMs with
+     * one bulk verification, and the accepted rows are inserted in a single batched transaction.
+     * The UOM verification starts before the name query and runs alongside it, so a batch waits for the
+     * slower of the two rather than their sum; rows whose names turn out to be taken are verified as well.
+     */
     @Override
-    @Transactional
-    public InventoryItemResponse update(Long id, InventoryItemUpdate update) {
+    public InventoryItemBatchResponse saveAll(List<InventoryItemRequest> requests) {
+        final String methodNomenclature = NOMENCLATURE + "-saveAll";
+        log.info("[{}] Creating {} {} entities in batch", methodNomenclature, requests.size(), ENTITY_NAME);
+
+        InventoryItemBatchResult[] results = new InventoryItemBatchResult[requests.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            InventoryItemRequest request = requests.get(index);
+            String violations = describeViolations(request);
+            if (violations != null) {
+                String message = messageService.getMessage("global.error.bad.request", violations);
+                results[index] = failedResult(index, ErrorCode.INVALID_DATA, message);
+            } else if (candidates.putIfAbsent(lowerCaseName(request), index) != null) {
+                results[index] = conflictResult(index, request.name());
+            }
+        }
+
+        CompletableFuture<Set<Long>> uomCheck = candidates.isEmpty()
+            ? CompletableFuture.completedFuture(Set.of())
+            : uomServiceClient.verifyUomIdsAsync(candidates.values().stream().map(index -> requests.get(index).baseUnitOfMeasureId()).toList());
+        Set<String> takenNames = findTakenNames(candidates.keySet());
+        candidates.entrySet().removeIf(candidate -> {
+            if (takenNames.contains(candidate.getKey())) {
+                int index = candidate.getValue();
+                results[index] = conflictResult(index, requests.get(index).name());
+                return true;
+            }
+            return false;
+        });
+
+        List<Integer> accepted = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            Set<Long> invalidUomIds = await(uomCheck);
+            for (Integer index : candidates.values()) {
+                Long uomId = requests.get(index).baseUnitOfMeasureId();
+                if (invalidUomIds.contains(uomId)) {
+                    String message = messageService.getMessage("crud.not.found", "UOM", "id", uomId.toString());
+                    results[index] = failedResult(index, ErrorCode.RESOURCE_NOT_FOUND, message);
+                } else {
+                    accepted.add(index);
+                }
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<InventoryItemResponse> created;
+            try {
+                created = insertAll(requests, accepted);
+            } catch (DataIntegrityViolationException exception) {
+                if (!isUniqueViolation(exception)) {
+                    throw exception;
+                }
+                // The filter only knows this instance's writes since its last rebuild, so a name created
+                // elsewhere can get past it. Check the accepted rows against the database and retry once.
+                log.warn("[{}] Name conflict on batch insert, re-checking {} names against the database", methodNomenclature, accepted.size());
+                Set<String> taken = findTakenNamesInDatabase(accepted.stream().map(index -> lowerCaseName(requests.get(index))).toList());
+                accepted.removeIf(index -> {
+                    if (taken.contains(lowerCaseName(requests.get(index)))) {
+                        results[index] = conflictResult(index, requests.get(index).name());
+                        return true;
+                    }
+                    return false;
+                });
+                created = accepted.isEmpty() ? List.of() : insertAll(requests, accepted);
+            }
+            catalogReplica.upsertAll(created);
+            nameIndex.putAll(created.stream().map(item -> new ItemNameSuggestion(item.id(), item.name())).toList());
+            nameFilter.putAll(created.stream().map(InventoryItemResponse::name).toList());
+            catalogVersion.increment().ifPresent(catalogReplica::advanceCatalogVersion);
+            for (int position = 0; position < accepted.size(); position++) {
+                int index = accepted.get(position);
+                results[index] = new InventoryItemBatchResult(index, InventoryItemBatchResult.Status.CREATED, created.get(position), null, null, null);
+            }
+        }
+
+        int failed = requests.size() - accepted.size();
+        log.info("[{}] Batch finished: {} created, {} failed", methodNomenclature, accepted.size(), failed);
+        return new InventoryItemBatchResponse(requests.size(), accepted.size(), failed, Arrays.asList(results));
+    }
+
+    @Override
+    public InventoryItemResponse update(Long id, InventoryItemUpdate update, Long expectedVersion) {
         final String methodNomenclature = NOMENCLATURE + "-update";
         log.info("[{}] Updating {} with id: {}", methodNomenclature, ENTITY_NAME, id);
 
-        InventoryItem existing = findEntityById(id);
-        validateNameUniquenessForUpdate(existing.getName(), update.name());
+        // A missing item or a stale If-Match is answered from the version column before any remote call;
+        // both are checked again inside the write transaction.
+        Long currentVersion = repository.findVersionById(id).orElseThrow(() -> notFound(id));
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw versionMismatch(id, expectedVersion);
+        }
         uomServiceClient.verifyUomById(update.baseUnitOfMeasureId());
 
-        mapper.updateEntityFromDto(existing, update);
-
+        InventoryItemResponse response = applyUpdate(id, update.name(), expectedVersion, existing -> update);
         log.info("[{}] {} updated successfully with id: {}", methodNomenclature, ENTITY_NAME, id);
-        return mapper.toResponse(existing);
+        return response;
+    }
+
+    // The patch is merged once against a fresh read to validate it and to see whether the base UOM changes, and
+    // again inside the write transaction against the row being updated. A base UOM equal to the one the item had
+    // at the first read is not sent to the UOM service again; it was verified when it was set.
+    @Override
+    public InventoryItemResponse patch(Long id, JsonNode mergePatch, Long expectedVersion) {
+        final String methodNomenclature = NOMENCLATURE + "-patch";
+        log.info("[{}] Patching {} with id: {}, fields: {}", methodNomenclature, ENTITY_NAME, id, fieldNames(mergePatch));
+
+        InventoryItem current = repository.findCurrentById(id).orElseThrow(() -> notFound(id));
+        InventoryItemUpdate preview = applyMergePatch(current, mergePatch);
+        if (!preview.baseUnitOfMeasureId().equals(current.getBaseUnitOfMeasureId())) {
+            uomServiceClient.verifyUomById(preview.baseUnitOfMeasureId());
+        }
+
+        InventoryItemResponse response = applyUpdate(id, preview.name(), expectedVersion, existing -> applyMergePatch(existing, mergePatch));
+        log.info("[{}] {} patched successfully with id: {}", methodNomenclature, ENTITY_NAME, id);
+        return response;
     }
 
     @Override
@@ -73,41 +255,134 @@ public class InventoryItemImp implements InventoryItemService {
             String message = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id.toString());
             throw new ResourceNotFoundException(message);
         }
+        changeLog.record(id);
+        runAfterCommit(() -> {
+            itemCache.evict(id);
+            catalogReplica.remove(id);
+            nameIndex.remove(id);
+            catalogVersion.increment().ifPresent(catalogReplica::advanceCatalogVersion);
+        });
 
         log.info("[{}] {} deleted successfully with id: {}", methodNomenclature, ENTITY_NAME, id);
     }
 
+    // Served from the catalog replica when it is enabled, otherwise from the item cache; on a miss the
+    // repository runs its own read-only transaction, so neither path holds a connection on a hit.
+    // A replica miss is not a 404: an item created on another instance only reaches the replica with the
+    // next poll, so the id is looked up through the item cache as if the replica were disabled.
     @Override
-    @Transactional(readOnly = true)
     public InventoryItemResponse findById(Long id) {
         final String methodNomenclature = NOMENCLATURE + "-findById";
         log.debug("[{}] Fetching {} with id: {}", methodNomenclature, ENTITY_NAME, id);
 
-        InventoryItem entity = findEntityById(id);
+        if (catalogReplica.isReady()) {
+            InventoryItemResponse replicated = catalogReplica.findById(id);
+            if (replicated != null) {
+                return replicated;
+            }
+        }
+        return itemCache.get(id, key -> mapper.toResponse(findEntityById(key)));
+    }
 
-        return mapper.toResponse(entity);
+    @Override
+    public Long findVersionById(Long id) {
+        if (catalogReplica.isReady()) {
+            InventoryItemResponse replicated = catalogReplica.findById(id);
+            if (replicated != null) {
+                return replicated.version();
+            }
+        }
+        return repository.findVersionById(id).orElseThrow(() -> notFound(id));
+    }
+
+    // Taken from the replica when it serves the listings, so the version never runs ahead of the data it describes
+    @Override
+    public long findCatalogVersion() {
+        return catalogReplica.isReady() ? catalogReplica.catalogVersion() : catalogVersion.current();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Page<InventoryItemResponse> findAll(Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAll";
         log.debug("[{}] Fetching all {} entities", methodNomenclature, ENTITY_NAME);
 
-        return repository.findAll(pageable).map(mapper::toResponse);
+        return catalogReplica.findAll(pageable)
+            .orElseGet(() -> repository.findAll(pageable).map(mapper::toResponse));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Page<InventoryItemResponse> findAllByName(String name, Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAllByName";
         log.debug("[{}] Fetching {} entities with name containing: '{}'", methodNomenclature, ENTITY_NAME, name);
 
-        return repository.findAllByNameContainingIgnoreCase(name, pageable).map(mapper::toResponse);
+        return catalogReplica.findAllByName(name, pageable)
+            .orElseGet(() -> repository.findAllByNameContainingIgnoreCase(name, pageable).map(mapper::toResponse));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<InventoryItemResponse> findAllAsSlice(Pageable pageable, SliceResponse.Total total) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllAsSlice";
+        log.debug("[{}] Fetching {} slice with total: {}", methodNomenclature, ENTITY_NAME, total);
+
+        Slice<InventoryItem> slice = repository.findSliceBy(pageable);
+        Long totalElements = total == SliceResponse.Total.ESTIMATED ? countEstimator.estimateTotal() : null;
+        return toSliceResponse(slice, totalElements, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<InventoryItemResponse> findAllByNameAsSlice(String name, Pageable pageable, SliceResponse.Total total) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllByNameAsSlice";
+        log.debug("[{}] Fetching {} slice with name containing: '{}' and total: {}", methodNomenclature, ENTITY_NAME, name, total);
+
+        Slice<InventoryItem> slice = repository.findSliceByNameContainingIgnoreCase(name, pageable);
+        Long totalElements = total == SliceResponse.Total.ESTIMATED ? countEstimator.estimateByName(name) : null;
+        return toSliceResponse(slice, totalElements, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<InventoryItemResponse> findAllByCursor(String cursor, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllByCursor";
+        log.debug("[{}] Fetching {} {} entities after cursor: {}", methodNomenclature, size, ENTITY_NAME, cursor);
+
+        return toCursorResponse(repository.findAllBy(decodeCursor(cursor), KEYSET_SORT, Limit.of(size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<InventoryItemResponse> findAllByNameByCursor(String name, String cursor, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllByNameByCursor";
+        log.debug("[{}] Fetching {} {} entities with name containing: '{}' after cursor: {}", methodNomenclature, size, ENTITY_NAME, name, cursor);
+
+        return toCursorResponse(repository.findByNameContainingIgnoreCase(name, decodeCursor(cursor), KEYSET_SORT, Limit.of(size)));
     }
 
-    private boolean isNameTaken(String name) {
-        return repository.existsByNameIgnoreCase(name);
+    @Override
+    public List<ItemNameSuggestion> autocomplete(String prefix, int limit) {
+        return nameIndex.autocomplete(prefix, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAll(Consumer<InventoryItemResponse> sink) {
+        final String methodNomenclature = NOMENCLATURE + "-exportAll";
+        log.info("[{}] Exporting all {} entities", methodNomenclature, ENTITY_NAME);
+
+        long exported = 0;
+        try (Stream<InventoryItem> items = repository.streamAllOrderedById()) {
+            Iterator<InventoryItem> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                InventoryItem entity = iterator.next();
+                sink.accept(mapper.toResponse(entity));
+                entityManager.detach(entity);
+                exported++;
+            }
+        }
+
+        log.info("[{}] Exported {} {} entities", methodNomenclature, exported, ENTITY_NAME);
+        return exported;
     }
 
     // ========================================
@@ -115,24 +390,222 @@ public class InventoryItemImp implements InventoryItemService {
     // ========================================
 
     private InventoryItem findEntityById(Long id) {
-        return repository.findById(id)
-            .orElseThrow(() -> {
-                String message = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id.toString());
-                return new ResourceNotFoundException(message);
-            });
+        return repository.findById(id).orElseThrow(() -> notFound(id));
+    }
+
+    private ResourceNotFoundException notFound(Long id) {
+        String message = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id.toString());
+        return new ResourceNotFoundException(message);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Write transaction shared by full and partial updates. {@code changes} computes the new values from the row
+     * as read inside the transaction; with {@code @DynamicUpdate} the flush only writes the columns that differ.
+     */
+    private InventoryItemResponse applyUpdate(Long id, String name, Long expectedVersion, Function<InventoryItem, InventoryItemUpdate> changes) {
+        InventoryItemResponse response = guardConcurrentUpdate(id, expectedVersion, () -> guardNameUniqueness(name, () -> transactionTemplate.execute(status -> {
+            InventoryItem existing = repository.findCurrentById(id).orElseThrow(() -> notFound(id));
+            if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+                throw versionMismatch(id, expectedVersion);
+            }
+            mapper.updateEntityFromDto(existing, changes.apply(existing));
+            repository.flush();
+            changeLog.record(id);
+            return mapper.toResponse(existing);
+        })));
+
+        itemCache.evict(id);
+        catalogReplica.upsert(response);
+        nameIndex.put(id, response.name());
+        nameFilter.put(response.name());
+        catalogVersion.increment().ifPresent(catalogReplica::advanceCatalogVersion);
+        return response;
+    }
+
+    /**
+     * RFC 7396 merge of {@code mergePatch} onto the item's updatable fields. The fields are flat, so a member
+     * replaces the current value and {@code null} removes it; the result is validated like a full update.
+     */
+    private InventoryItemUpdate applyMergePatch(InventoryItem entity, JsonNode mergePatch) {
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw invalidData("patch: must be a JSON object");
+        }
+        ObjectNode target = objectMapper.valueToTree(mapper.toUpdate(entity));
+        mergePatch.properties().forEach(member -> {
+            if (member.getValue().isNull()) {
+                target.remove(member.getKey());
+            } else {
+                target.set(member.getKey(), member.getValue());
+            }
+        });
+
+        InventoryItemUpdate merged;
+        try {
+            merged = objectMapper.treeToValue(target, InventoryItemUpdate.class);
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
+            throw invalidData("patch: contains a value of the wrong type");
+        }
+        String violations = describeViolations(merged);
+        if (violations != null) {
+            throw invalidData(violations);
+        }
+        return merged;
+    }
+
+    private static List<String> fieldNames(JsonNode mergePatch) {
+        return mergePatch == null ? List.of() : mergePatch.properties().stream().map(Map.Entry::getKey).toList();
+    }
+
+    private InvalidDataException invalidData(String detail) {
+        return new InvalidDataException(messageService.getMessage("global.error.bad.request", detail));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private ScrollPosition decodeCursor(String cursor) {
+        try {
+            return CursorToken.decode(cursor);
+        } catch (IllegalArgumentException exception) {
+            String message = messageService.getMessage("global.error.bad.request", "cursor: is not a valid continuation token");
+            throw new InvalidDataException(message);
+        }
+    }
+
+    private SliceResponse<InventoryItemResponse> toSliceResponse(Slice<InventoryItem> slice, Long totalElements, SliceResponse.Total total) {
+        List<InventoryItemResponse> content = slice.map(mapper::toResponse).getContent();
+        return new SliceResponse<>(content, slice.getNumber(), slice.getSize(), slice.hasNext(), totalElements, total);
+    }
+
+    private CursorResponse<InventoryItemResponse> toCursorResponse(Window<InventoryItem> window) {
+        List<InventoryItem> items = window.getContent();
+        String nextCursor = null;
+        if (window.hasNext() && !items.isEmpty()) {
+            InventoryItem last = items.getLast();
+            nextCursor = CursorToken.encode(last.getName(), last.getId());
+        }
+        List<InventoryItemResponse> content = items.stream().map(mapper::toResponse).toList();
+        return new CursorResponse<>(content, content.size(), nextCursor != null, nextCursor);
+    }
+
+    private <T> String describeViolations(T request) {
+        if (request == null) {
+            return "request: must not be null";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    private List<InventoryItemResponse> insertAll(List<InventoryItemRequest> requests, List<Integer> accepted) {
+        return transactionTemplate.execute(status -> {
+            List<InventoryItem> entities = accepted.stream().map(index -> mapper.toEntity(requests.get(index))).toList();
+            List<InventoryItem> saved = repository.saveAllAndFlush(entities);
+            changeLog.record(saved.stream().map(InventoryItem::getId).toList());
+            return saved.stream().map(mapper::toResponse).toList();
+        });
+    }
+
+    private static String lowerCaseName(InventoryItemRequest request) {
+        return request.name().toLowerCase(Locale.ROOT);
     }
 
-    private void validateNameUniqueness(String name) {
-        if (isNameTaken(name)) {
+    private Set<String> findTakenNames(Collection<String> lowerCaseNames) {
+        List<String> maybeTaken = lowerCaseNames.stream().filter(nameFilter::mightContain).toList();
+        Set<String> taken = findTakenNamesInDatabase(maybeTaken);
+        nameFilter.recordFalsePositives(maybeTaken.size() - taken.size());
+        return taken;
+    }
+
+    private Set<String> findTakenNamesInDatabase(List<String> names) {
+        Set<String> taken = new HashSet<>();
+        for (int from = 0; from < names.size(); from += NAME_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + NAME_LOOKUP_CHUNK_SIZE, names.size()));
+            taken.addAll(repository.findExistingLowerCaseNames(chunk));
+        }
+        return taken;
+    }
+
+    private InventoryItemBatchResult conflictResult(int index, String name) {
+        String message = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", name);
+        return failedResult(index, ErrorCode.RESOURCE_CONFLICT, message);
+    }
+
+    private static InventoryItemBatchResult failedResult(int index, ErrorCode errorCode, String message) {
+        return new InventoryItemBatchResult(index, InventoryItemBatchResult.Status.FAILED, null, errorCode.getCode(), errorCode.getValue(), message);
+    }
+
+    /**
+     * Names are unique case-insensitively through the unique index on {@code lower(name)}, so writes do not
+     * check first; the write must flush inside its transaction and a unique violation is reported as a name conflict.
+     * The id comes from the sequence, so the name indexes are the only unique keys an insert or update can hit.
+     */
+    private <T> T guardNameUniqueness(String name, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException exception) {
+            if (!isUniqueViolation(exception)) {
+                throw exception;
+            }
             String message = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", name);
             throw new ResourceConflictException(message);
         }
     }
 
-    private void validateNameUniquenessForUpdate(String currentName, String newName) {
-        if (!currentName.equals(newName) && isNameTaken(newName)) {
-            String message = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", newName);
+    /**
+     * Two updates of the same item that overlap are told apart by the {@code version} column; the one that
+     * commits second is reported as a conflict instead of silently overwriting the first. A conditional update
+     * reports it as a failed precondition, the same as a version that no longer matched when read.
+     */
+    private <T> T guardConcurrentUpdate(Long id, Long expectedVersion, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (OptimisticLockingFailureException exception) {
+            if (expectedVersion != null) {
+                throw versionMismatch(id, expectedVersion);
+            }
+            String message = messageService.getMessage("crud.concurrent.update", ENTITY_NAME, "id", id.toString());
             throw new ResourceConflictException(message);
         }
     }
+
+    private PreconditionFailedException versionMismatch(Long id, Long expectedVersion) {
+        String message = messageService.getMessage("crud.version.mismatch", ENTITY_NAME, "id", id.toString(), expectedVersion.toString());
+        return new PreconditionFailedException(message);
+    }
+
+    private static boolean isUniqueViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
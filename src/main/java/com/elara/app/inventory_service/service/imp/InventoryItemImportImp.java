@@ -0,0 +1,121 @@
+package com.elara.app.inventory_service.service.imp;
+
+import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResult;
+import com.elara.app.inventory_service.dto.response.InventoryItemImportProgress;
+import com.elara.app.inventory_service.service.interfaces.InventoryItemImportService;
+import com.elara.app.inventory_service.service.interfaces.InventoryItemService;
+import com.elara.app.inventory_service.utils.MessageService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming import of CSV (with a header row) or NDJSON files. Rows are parsed one at a time and only the
+ * current chunk is held in memory; every chunk goes through {@link InventoryItemService#saveAll}, so it gets
+ * the same validation, name and UOM checks and commits in its own transaction.
+ */
+@Slf4j
+@Service
+public class InventoryItemImportImp implements InventoryItemImportService {
+
+    private static final String NOMENCLATURE = "InventoryItem-import";
+    private final InventoryItemService inventoryItemService;
+    private final MessageService messageService;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public InventoryItemImportImp(InventoryItemService inventoryItemService, MessageService messageService, ObjectMapper objectMapper) {
+        this.inventoryItemService = inventoryItemService;
+        this.messageService = messageService;
+        this.ndjsonReader = objectMapper.readerFor(InventoryItemRequest.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        this.csvReader = csvMapper.readerFor(InventoryItemRequest.class).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    @Override
+    public InventoryItemImportProgress importItems(InputStream input, Format format, int chunkSize, int resumeFrom,
+                                                   Consumer<InventoryItemImportProgress> progressListener) {
+        final String methodNomenclature = NOMENCLATURE + "-importItems";
+        log.info("[{}] Importing {} rows in chunks of {}, resuming from row {}", methodNomenclature, format, chunkSize, resumeFrom);
+
+        List<InventoryItemRequest> chunk = new ArrayList<>(chunkSize);
+        int nextRow = resumeFrom;
+        int chunkNumber = 0;
+        int created = 0;
+        int failed = 0;
+        try (MappingIterator<InventoryItemRequest> rows = readerFor(format).readValues(input)) {
+            skip(rows, resumeFrom);
+            while (fill(rows, chunk, chunkSize)) {
+                InventoryItemBatchResponse batch = inventoryItemService.saveAll(chunk);
+                chunkNumber++;
+                created += batch.created();
+                failed += batch.failed();
+                InventoryItemImportProgress progress = new InventoryItemImportProgress(
+                    InventoryItemImportProgress.Status.IN_PROGRESS, chunkNumber, nextRow + chunk.size(),
+                    created, failed, failuresOf(batch, nextRow), null);
+                nextRow = progress.nextRow();
+                chunk.clear();
+                log.debug("[{}] Chunk {} committed, next row: {}", methodNomenclature, chunkNumber, nextRow);
+                progressListener.accept(progress);
+            }
+        } catch (IOException | RuntimeException exception) {
+            log.warn("[{}] Import aborted before row {}: {}", methodNomenclature, nextRow, exception.getMessage());
+            String message = messageService.getMessage("import.aborted", String.valueOf(nextRow), exception.getMessage());
+            InventoryItemImportProgress aborted = new InventoryItemImportProgress(
+                InventoryItemImportProgress.Status.ABORTED, chunkNumber, nextRow, created, failed, List.of(), message);
+            progressListener.accept(aborted);
+            return aborted;
+        }
+
+        log.info("[{}] Import completed: {} created, {} failed", methodNomenclature, created, failed);
+        String message = messageService.getMessage("import.completed", String.valueOf(created), String.valueOf(failed));
+        InventoryItemImportProgress completed = new InventoryItemImportProgress(
+            InventoryItemImportProgress.Status.COMPLETED, chunkNumber, nextRow, created, failed, List.of(), message);
+        progressListener.accept(completed);
+        return completed;
+    }
+
+    private ObjectReader readerFor(Format format) {
+        return format == Format.CSV ? csvReader : ndjsonReader;
+    }
+
+    private static void skip(MappingIterator<InventoryItemRequest> rows, int count) throws IOException {
+        for (int skipped = 0; skipped < count && rows.hasNextValue(); skipped++) {
+            rows.nextValue();
+        }
+    }
+
+    private static boolean fill(MappingIterator<InventoryItemRequest> rows, List<InventoryItemRequest> chunk, int chunkSize) throws IOException {
+        while (chunk.size() < chunkSize && rows.hasNextValue()) {
+            chunk.add(rows.nextValue());
+        }
+        return !chunk.isEmpty();
+    }
+
+    private static List<InventoryItemBatchResult> failuresOf(InventoryItemBatchResponse batch, int firstRow) {
+        return batch.results().stream()
+            .filter(result -> result.status() == InventoryItemBatchResult.Status.FAILED)
+            .map(result -> new InventoryItemBatchResult(firstRow + result.index(), result.status(), null,
+                result.code(), result.value(), result.message()))
+            .toList();
+    }
+
+}
@@ -1,19 +1,41 @@
 package com.elara.app.inventory_service.service.imp;
 
+import com.elara.app.inventory_service.cache.UomVerificationCache;
 import com.elara.app.inventory_service.dto.response.UomResponse;
 import com.elara.app.inventory_service.exceptions.ResourceNotFoundException;
+import com.elara.app.inventory_service.exceptions.ServiceUnavailableException;
 import com.elara.app.inventory_service.service.interfaces.UomServiceClient;
 import com.elara.app.inventory_service.utils.MessageService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Every outbound call goes through the {@code uom-service} circuit breaker and a bulkhead: {@code uom-service} for
+ * blocking calls, and {@code uom-service-async}, which never waits for a permit, for non-blocking ones. When a call
+ * is rejected or fails, an id confirmed within {@code uom.cache.fallback-ttl} is still accepted; otherwise a
+ * rejection is reported as {@link ServiceUnavailableException} and any other failure propagates unchanged.
+ */
 @Slf4j
 @Service
 public class UomServiceClientImp implements UomServiceClient {
@@ -21,19 +43,233 @@ public class UomServiceClientImp implements UomServiceClient {
     private static final String ENTITY_NAME = "Uom";
     private static final String NOMENCLATURE = ENTITY_NAME + "-service";
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
     private final MessageService messageService;
+    private final UomVerificationCache verificationCache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Bulkhead asyncBulkhead;
+    private final ConcurrentMap<Long, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
 
     //    New variables
     @Value("${uom.service.name:unit-of-measure-service}")
     private String uomServiceName;
 
-    public UomServiceClientImp(RestTemplate restTemplate, MessageService messageService) {
+    @Value("${uom.bulk.max-concurrency:8}")
+    private int bulkMaxConcurrency = 8;
+
+    public UomServiceClientImp(
+        RestTemplate restTemplate,
+        @Qualifier("uomWebClient") WebClient webClient,
+        MessageService messageService,
+        UomVerificationCache verificationCache,
+        @Qualifier("uomCircuitBreaker") CircuitBreaker circuitBreaker,
+        @Qualifier("uomBulkhead") Bulkhead bulkhead,
+        @Qualifier("uomAsyncBulkhead") Bulkhead asyncBulkhead
+    ) {
         this.restTemplate = restTemplate;
+        this.webClient = webClient;
         this.messageService = messageService;
+        this.verificationCache = verificationCache;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.asyncBulkhead = asyncBulkhead;
     }
 
+    @Override
     public void verifyUomById(Long id) {
         final String methodNomenclature = NOMENCLATURE + "-existsById";
+        if (!lookup(id)) {
+            String msg = messageService.getMessage("crud.not.found", "UOM", "id", id.toString());
+            log.warn("[{}] {}", methodNomenclature, msg);
+            throw new ResourceNotFoundException(msg);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyUomByIdAsync(Long id) {
+        final String methodNomenclature = NOMENCLATURE + "-existsByIdAsync";
+        Boolean cached = verificationCache.getIfPresent(id);
+        CompletableFuture<Boolean> lookup = cached != null ? CompletableFuture.completedFuture(cached) : coalescedFetchAsync(id);
+        return lookup.thenAccept(exists -> {
+            if (!exists) {
+                String msg = messageService.getMessage("crud.not.found", "UOM", "id", id.toString());
+                log.warn("[{}] {}", methodNomenclature, msg);
+                throw new ResourceNotFoundException(msg);
+            }
+        });
+    }
+
+    /**
+     * The calls for cache misses run on the WebClient's event loop, at most {@code uom.bulk.max-concurrency} at a
+     * time, and no thread waits for them.
+     */
+    @Override
+    public CompletableFuture<Set<Long>> verifyUomIdsAsync(Collection<Long> ids) {
+        final String methodNomenclature = NOMENCLATURE + "-verifyUomIdsAsync";
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        Set<Long> cachedInvalid = new TreeSet<>();
+        List<Long> misses = partitionByCache(distinct, cachedInvalid);
+        log.info("[{}] Verifying {} distinct {} ids, {} not cached", methodNomenclature, distinct.size(), ENTITY_NAME, misses.size());
+
+        return Flux.fromIterable(misses)
+            .flatMap(id -> Mono.fromFuture(() -> coalescedFetchAsync(id)).filter(exists -> !exists).map(exists -> id),
+                bulkMaxConcurrency)
+            .collect(() -> new TreeSet<>(cachedInvalid), Set::add)
+            .<Set<Long>>map(invalid -> {
+                if (!invalid.isEmpty()) {
+                    log.warn("[{}] {} ids not found: {}", methodNomenclature, ENTITY_NAME, invalid);
+                }
+                return invalid;
+            })
+            .toFuture();
+    }
+
+    // ========================================
+    // PRIVATE HELPERS
+    // ========================================
+
+    /**
+     * Adds cached negatives to {@code invalid} and returns the ids the cache knows nothing about.
+     */
+    private List<Long> partitionByCache(Set<Long> distinct, Set<Long> invalid) {
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinct) {
+            Boolean cached = verificationCache.getIfPresent(id);
+            if (cached == null) {
+                misses.add(id);
+            } else if (!cached) {
+                invalid.add(id);
+            }
+        }
+        return misses;
+    }
+
+    private boolean lookup(Long id) {
+        final String methodNomenclature = NOMENCLATURE + "-lookup";
+        Boolean cached = verificationCache.getIfPresent(id);
+        if (cached != null) {
+            log.debug("[{}] Cache hit for {} with id: {} (exists: {})", methodNomenclature, ENTITY_NAME, id, cached);
+            return cached;
+        }
+        return coalescedFetch(id);
+    }
+
+    /**
+     * Performs a single outbound call shared by every thread asking for the same id at the same time.
+     * Followers receive the leader's result or failure.
+     */
+    private boolean coalescedFetch(Long id) {
+        final String methodNomenclature = NOMENCLATURE + "-coalescedFetch";
+        CompletableFuture<Boolean> call = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(id, call);
+        if (existing != null) {
+            log.debug("[{}] Joining in-flight lookup for {} with id: {}", methodNomenclature, ENTITY_NAME, id);
+            return await(existing);
+        }
+
+        try {
+            boolean exists = guardedFetch(id);
+            call.complete(exists);
+            return exists;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, call);
+        }
+    }
+
+    /**
+     * Non-blocking {@link #coalescedFetch}: shares the same in-flight map, so blocking and non-blocking callers
+     * asking for the same id at the same time also share one outbound call.
+     */
+    private CompletableFuture<Boolean> coalescedFetchAsync(Long id) {
+        CompletableFuture<Boolean> call = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(id, call);
+        if (existing != null) {
+            return existing;
+        }
+
+        guardedFetchAsync(id).whenComplete((exists, failure) -> {
+            try {
+                if (failure != null) {
+                    call.completeExceptionally(failure instanceof CompletionException wrapped && wrapped.getCause() != null
+                        ? wrapped.getCause() : failure);
+                } else {
+                    call.complete(exists);
+                }
+            } finally {
+                inFlight.remove(id, call);
+            }
+        });
+        return call;
+    }
+
+    /**
+     * {@link #fetchExists} through the bulkhead and circuit breaker; only answers from the service are cached.
+     */
+    private boolean guardedFetch(Long id) {
+        try {
+            boolean exists = Bulkhead.decorateSupplier(bulkhead,
+                CircuitBreaker.decorateSupplier(circuitBreaker, () -> fetchExists(id))).get();
+            verificationCache.put(id, exists);
+            return exists;
+        } catch (RuntimeException e) {
+            return fallback(id, e);
+        }
+    }
+
+    /**
+     * Non-blocking {@link #guardedFetch}. It may be started from a Reactor event loop, so it uses the bulkhead that
+     * never waits for a permit.
+     */
+    private CompletableFuture<Boolean> guardedFetchAsync(Long id) {
+        return Bulkhead.decorateCompletionStage(asyncBulkhead,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker, () -> fetchExistsAsync(id)))
+            .get()
+            .toCompletableFuture()
+            .thenApply(exists -> {
+                verificationCache.put(id, exists);
+                return exists;
+            })
+            .exceptionally(failure -> fallback(id, failure instanceof CompletionException wrapped ? wrapped.getCause() : failure));
+    }
+
+    private boolean fallback(Long id, Throwable failure) {
+        final String methodNomenclature = NOMENCLATURE + "-fallback";
+        if (verificationCache.isRecentlyConfirmed(id)) {
+            log.warn("[{}] Accepting recently confirmed {} with id: {} after failure: {}", methodNomenclature, ENTITY_NAME, id,
+                failure.toString());
+            return true;
+        }
+        if (failure instanceof CallNotPermittedException || failure instanceof BulkheadFullException) {
+            String msg = messageService.getMessage("global.error.service.unavailable");
+            log.warn("[{}] {} call for id: {} rejected: {}", methodNomenclature, ENTITY_NAME, id, failure.getMessage());
+            throw new ServiceUnavailableException(msg);
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new CompletionException(failure);
+    }
+
+    private static boolean await(CompletableFuture<Boolean> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calls unit-of-measure-service; a 404 is a definitive "does not exist", any other failure propagates.
+     */
+    private boolean fetchExists(Long id) {
+        final String methodNomenclature = NOMENCLATURE + "-fetchExists";
         final String uomBaseUrl = "http://" + uomServiceName;
         try {
 
@@ -50,11 +286,35 @@ public class UomServiceClientImp implements UomServiceClient {
             log.info("{}", response.getBody());
             String msg = messageService.getMessage("crud.read.success", ENTITY_NAME);
             log.info("[{}] {}", methodNomenclature, msg);
+            return true;
         } catch (HttpClientErrorException.NotFound e) {
-            String msg = messageService.getMessage("crud.not.found", "UOM", "id", id.toString());
-            log.warn("[{}] {}", methodNomenclature, msg);
-            throw new ResourceNotFoundException(msg);
+            log.debug("[{}] {} with id: {} answered 404", methodNomenclature, ENTITY_NAME, id);
+            return false;
         }
     }
 
+    /**
+     * Non-blocking {@link #fetchExists} through the load-balanced WebClient.
+     */
+    private CompletableFuture<Boolean> fetchExistsAsync(Long id) {
+        final String methodNomenclature = NOMENCLATURE + "-fetchExistsAsync";
+        URI uri = UriComponentsBuilder
+            .fromUriString("http://" + uomServiceName)
+            .pathSegment(String.valueOf(id))
+            .build()
+            .toUri();
+
+        log.info("[{}] Searching {} with id: {}", methodNomenclature, ENTITY_NAME, id);
+        return webClient.get()
+            .uri(uri)
+            .retrieve()
+            .toBodilessEntity()
+            .map(response -> true)
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                log.debug("[{}] {} with id: {} answered 404", methodNomenclature, ENTITY_NAME, id);
+                return Mono.just(false);
+            })
+            .toFuture();
+    }
+
 }
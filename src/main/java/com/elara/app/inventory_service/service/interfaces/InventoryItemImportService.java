@@ -0,0 +1,23 @@
+package com.elara.app.inventory_service.service.interfaces;
+
+import com.elara.app.inventory_service.dto.response.InventoryItemImportProgress;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface InventoryItemImportService {
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Streams rows from {@code input} and creates them in chunks of {@code chunkSize}, each chunk in its own
+     * transaction. The first {@code resumeFrom} data rows are skipped. The listener receives one progress event
+     * per committed chunk and a final {@code COMPLETED} or {@code ABORTED} event, which is also returned.
+     */
+    InventoryItemImportProgress importItems(InputStream input, Format format, int chunkSize, int resumeFrom,
+                                            Consumer<InventoryItemImportProgress> progressListener);
+
+}
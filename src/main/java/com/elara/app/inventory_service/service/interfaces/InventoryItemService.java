@@ -1,23 +1,81 @@
 package com.elara.app.inventory_service.service.interfaces;
 
 import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.CursorResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
 import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.dto.response.SliceResponse;
 import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface InventoryItemService {
 
     InventoryItemResponse save(InventoryItemRequest request);
 
-    InventoryItemResponse update(Long id, InventoryItemUpdate update);
+    InventoryItemBatchResponse saveAll(List<InventoryItemRequest> requests);
+
+    /**
+     * Replaces every field of the item. With a non-null {@code expectedVersion} the update only applies if the item
+     * still has that version, and fails with {@code PreconditionFailedException} otherwise; with {@code null} it is
+     * unconditional.
+     */
+    InventoryItemResponse update(Long id, InventoryItemUpdate update, Long expectedVersion);
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to the item: fields present in {@code mergePatch} replace the current
+     * values, {@code null} clears optional ones, and absent fields are kept. The result must satisfy the same
+     * rules as a full update. {@code expectedVersion} works as in {@link #update}.
+     */
+    InventoryItemResponse patch(Long id, JsonNode mergePatch, Long expectedVersion);
 
     void deleteById(Long id);
 
     InventoryItemResponse findById(Long id);
 
+    /**
+     * Current {@code version} of the item, read without loading the full row, for answering conditional requests.
+     */
+    Long findVersionById(Long id);
+
+    /**
+     * Catalog-wide version that changes with every create, update and delete, used as the ETag of the listings.
+     */
+    long findCatalogVersion();
+
     Page<InventoryItemResponse> findAll(Pageable pageable);
 
     Page<InventoryItemResponse> findAllByName(String name, Pageable pageable);
 
+    /**
+     * Page of items without the exact count query; {@code total} decides whether an estimated total is attached.
+     */
+    SliceResponse<InventoryItemResponse> findAllAsSlice(Pageable pageable, SliceResponse.Total total);
+
+    SliceResponse<InventoryItemResponse> findAllByNameAsSlice(String name, Pageable pageable, SliceResponse.Total total);
+
+    /**
+     * Keyset-paginated listing ordered by {@code name, id}. Pass {@code null} for the first page and the returned
+     * {@code nextCursor} afterwards; every page costs the same index seek regardless of depth.
+     */
+    CursorResponse<InventoryItemResponse> findAllByCursor(String cursor, int size);
+
+    CursorResponse<InventoryItemResponse> findAllByNameByCursor(String name, String cursor, int size);
+
+    /**
+     * Word-prefix name suggestions served from the in-memory {@code ItemNameIndex}; never queries the database.
+     */
+    List<ItemNameSuggestion> autocomplete(String prefix, int limit);
+
+    /**
+     * Passes every item, in id order, to {@code sink} from a single database cursor and returns the number of
+     * items exported. Items are never collected, so heap use does not grow with the catalog size.
+     */
+    long exportAll(Consumer<InventoryItemResponse> sink);
+
 }
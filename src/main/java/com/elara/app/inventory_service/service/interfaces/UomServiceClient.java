@@ -1,7 +1,23 @@
 package com.elara.app.inventory_service.service.interfaces;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 public interface UomServiceClient {
 
     void verifyUomById(Long id);
 
+    /**
+     * Non-blocking {@link #verifyUomById}: completes normally when the UOM exists, or exceptionally with
+     * {@link com.elara.app.inventory_service.exceptions.ResourceNotFoundException} when it does not.
+     */
+    CompletableFuture<Void> verifyUomByIdAsync(Long id);
+
+    /**
+     * Verifies many UOM ids at once and completes with the ones that do not exist (empty when all are valid).
+     * Non-blocking, so callers can overlap the remote calls with their own work.
+     */
+    CompletableFuture<Set<Long>> verifyUomIdsAsync(Collection<Long> ids);
+
 }
@@ -0,0 +1,47 @@
+package com.elara.app.inventory_service.utils;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque continuation token for keyset pagination ordered by {@code name, id}. The token is the
+ * URL-safe Base64 form of {@code "<id>:<name>"}; clients must treat it as an opaque string.
+ */
+public final class CursorToken {
+
+    private static final char SEPARATOR = ':';
+
+    private CursorToken() {
+    }
+
+    public static String encode(String name, Long id) {
+        String raw = id.toString() + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the keyset position right after the encoded row, or the initial position for a blank token.
+     *
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode}
+     */
+    public static KeysetScrollPosition decode(String token) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", raw.substring(separator + 1));
+        keys.put("id", Long.valueOf(raw.substring(0, separator)));
+        return ScrollPosition.forward(keys);
+    }
+
+}
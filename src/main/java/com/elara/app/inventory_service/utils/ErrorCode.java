@@ -13,7 +13,8 @@ public enum ErrorCode {
     RESOURCE_CONFLICT(1003, "RESOURCE_CONFLICT", "global.error.conflict", HttpStatus.CONFLICT),
     RESOURCE_NOT_FOUND(1004, "RESOURCE_NOT_FOUND", "global.error.not.found", HttpStatus.NOT_FOUND),
     SERVICE_UNAVAILABLE(1005, "SERVICE_UNAVAILABLE", "global.error.service.unavailable", HttpStatus.SERVICE_UNAVAILABLE),
-    UNEXPECTED_ERROR(1006, "UNEXPECTED_ERROR", "global.error.unexpected", HttpStatus.INTERNAL_SERVER_ERROR);
+    UNEXPECTED_ERROR(1006, "UNEXPECTED_ERROR", "global.error.unexpected", HttpStatus.INTERNAL_SERVER_ERROR),
+    PRECONDITION_FAILED(1007, "PRECONDITION_FAILED", "global.error.precondition.failed", HttpStatus.PRECONDITION_FAILED);
 
     private final int code;
     private final String value;
@@ -0,0 +1,10 @@
+-- H2 mirror of the PostgreSQL schema, used by the test suite.
+CREATE TABLE IF NOT EXISTS inventory_item (
+    id                      BIGINT         NOT NULL PRIMARY KEY,
+    name                    VARCHAR(100)   NOT NULL UNIQUE,
+    description             VARCHAR(200),
+    base_unit_of_measure_id BIGINT         NOT NULL,
+    standard_cost           NUMERIC(12, 2) NOT NULL,
+    unit_per_purchase_uom   NUMERIC(12, 2) NOT NULL,
+    reorder_point_quantity  NUMERIC(12, 2) NOT NULL
+);
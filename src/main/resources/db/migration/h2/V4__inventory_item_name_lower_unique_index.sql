@@ -0,0 +1,5 @@
+-- H2 has no expression indexes, so the case-insensitive unique key from the PostgreSQL V4 migration is put on a
+-- generated column instead. V3 (pg_trgm) has no H2 counterpart.
+ALTER TABLE inventory_item ADD COLUMN IF NOT EXISTS name_lower VARCHAR(100) GENERATED ALWAYS AS (LOWER(name));
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_inventory_item_name_lower ON inventory_item (name_lower);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS inventory_item_change (
+    id         BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    item_id    BIGINT                   NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_change_changed_at ON inventory_item_change (changed_at);
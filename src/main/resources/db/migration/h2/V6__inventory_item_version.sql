@@ -0,0 +1,10 @@
+-- Optimistic-locking version per item, used as the item ETag, and a single-row catalog-wide counter bumped in its
+-- own transaction after each item write commits, used as the ETag of the listing endpoints.
+ALTER TABLE inventory_item ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS inventory_catalog_version (
+    id      SMALLINT PRIMARY KEY,
+    version BIGINT   NOT NULL
+);
+
+INSERT INTO inventory_catalog_version (id, version) VALUES (1, 0);
@@ -0,0 +1,11 @@
+-- Schema as originally generated by Hibernate (IDENTITY ids).
+-- Existing databases are baselined at this version, so this only runs on empty databases.
+CREATE TABLE IF NOT EXISTS inventory_item (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                    VARCHAR(100)   NOT NULL UNIQUE,
+    description             VARCHAR(200),
+    base_unit_of_measure_id BIGINT         NOT NULL,
+    standard_cost           NUMERIC(12, 2) NOT NULL,
+    unit_per_purchase_uom   NUMERIC(12, 2) NOT NULL,
+    reorder_point_quantity  NUMERIC(12, 2) NOT NULL
+);
@@ -0,0 +1,8 @@
+-- Move inventory_item.id from IDENTITY to a pooled sequence (allocationSize = 50) so Hibernate can batch inserts.
+ALTER TABLE inventory_item ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE inventory_item ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS inventory_item_seq START WITH 1 INCREMENT BY 50;
+
+-- The pooled optimizer hands out (value - 49 .. value), so the next value must clear MAX(id) by a full block.
+SELECT setval('inventory_item_seq', COALESCE(MAX(id), 0) + 50, false) FROM inventory_item;
@@ -0,0 +1,7 @@
+-- Substring name search (findAllByNameContainingIgnoreCase and its Slice, Window and count variants) is derived by
+-- Spring Data as UPPER(name) LIKE UPPER(:term) with leading and trailing wildcards, which no B-tree can serve.
+-- A trigram GIN index on the same expression turns that predicate into an index scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_name_trgm
+    ON inventory_item USING gin (UPPER(name) gin_trgm_ops);
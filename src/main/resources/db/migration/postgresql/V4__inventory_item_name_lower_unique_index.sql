@@ -0,0 +1,26 @@
+-- Names are unique case-insensitively. The rule used to be checked with an existsByNameIgnoreCase query before every
+-- insert and rename, which cost a round trip and raced under concurrency; the index enforces it in one statement.
+-- It also serves the LOWER(name) IN (...) lookup used by batch creates.
+-- Fails if existing rows already differ only by case; rename those before migrating.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_inventory_item_name_lower ON inventory_item (LOWER(name));
+
+-- The case-sensitive unique constraint on name is implied by the index above and only adds write cost. Its name
+-- depends on who created it (inventory_item_name_key from V1, a generated UK... name from Hibernate on baselined
+-- databases), so every single-column unique constraint on name is looked up and dropped.
+DO $$
+DECLARE
+    name_constraint TEXT;
+BEGIN
+    FOR name_constraint IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = 'inventory_item'::regclass
+          AND c.contype = 'u'
+          AND cardinality(c.conkey) = 1
+          AND a.attname = 'name'
+    LOOP
+        EXECUTE format('ALTER TABLE inventory_item DROP CONSTRAINT %I', name_constraint);
+    END LOOP;
+END
+$$;
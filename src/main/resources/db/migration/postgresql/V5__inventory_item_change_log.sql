@@ -0,0 +1,10 @@
+-- Change feed for nodes that keep an in-memory replica of the catalog (inventory.catalog-replica.enabled).
+-- Every write appends the ids it touched in the same transaction; replicas poll by changed_at and reload those rows.
+-- clock_timestamp() is the insert time rather than the transaction start, which keeps it close to the commit.
+CREATE TABLE IF NOT EXISTS inventory_item_change (
+    id         BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    item_id    BIGINT      NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_change_changed_at ON inventory_item_change (changed_at);
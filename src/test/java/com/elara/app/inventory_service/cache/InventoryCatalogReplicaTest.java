@@ -0,0 +1,247 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.mapper.InventoryItemMapperImpl;
+import com.elara.app.inventory_service.model.InventoryItem;
+import com.elara.app.inventory_service.repository.InventoryCatalogVersion;
+import com.elara.app.inventory_service.repository.InventoryItemChangeLog;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryCatalogReplica Tests")
+class InventoryCatalogReplicaTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2026-10-01T10:00:00Z");
+
+    @Mock
+    private InventoryItemRepository repository;
+
+    @Mock
+    private InventoryItemChangeLog changeLog;
+
+    @Mock
+    private InventoryCatalogVersion catalogVersion;
+
+    private InventoryCatalogReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new InventoryCatalogReplica(repository, new InventoryItemMapperImpl(), changeLog, catalogVersion, true, Duration.ofSeconds(30));
+    }
+
+    private static InventoryItem item(long id, String name) {
+        return InventoryItem.builder()
+            .id(id)
+            .name(name)
+            .baseUnitOfMeasureId(1L)
+            .standardCost(new BigDecimal("2.50"))
+            .unitPerPurchaseUom(new BigDecimal("10.00"))
+            .reorderPointQuantity(new BigDecimal("50.00"))
+            .build();
+    }
+
+    private void load(InventoryItem... items) {
+        when(changeLog.findLatest()).thenReturn(LOADED_AT);
+        when(repository.findAll(Sort.by("id"))).thenReturn(List.of(items));
+        replica.reload();
+    }
+
+    private static List<String> names(Optional<Page<InventoryItemResponse>> page) {
+        return page.orElseThrow().getContent().stream().map(InventoryItemResponse::name).toList();
+    }
+
+    @Test
+    @DisplayName("reads_beforeLoad_fallBackToDatabase")
+    void reads_beforeLoad_fallBackToDatabase() {
+        assertThat(replica.isReady()).isFalse();
+        assertThat(replica.findAll(PageRequest.of(0, 10))).isEmpty();
+        assertThat(replica.findById(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("reload_whenDisabled_loadsNothing")
+    void reload_whenDisabled_loadsNothing() {
+        // Given
+        InventoryCatalogReplica disabled = new InventoryCatalogReplica(
+            repository, new InventoryItemMapperImpl(), changeLog, catalogVersion, false, Duration.ofSeconds(30));
+
+        // When
+        disabled.reload();
+
+        // Then
+        assertThat(disabled.isReady()).isFalse();
+        verifyNoInteractions(repository, changeLog, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("findById_afterLoad_servesItems")
+    void findById_afterLoad_servesItems() {
+        // Given
+        load(item(1L, "Steel Bolt M10"), item(5L, "Hex Nut M8"));
+
+        // When & Then
+        assertThat(replica.isReady()).isTrue();
+        assertThat(replica.findById(5L).name()).isEqualTo("Hex Nut M8");
+        assertThat(replica.findById(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("findAll_withSortAndPage_ordersAndCounts")
+    void findAll_withSortAndPage_ordersAndCounts() {
+        // Given
+        load(item(1L, "Washer"), item(2L, "Bolt"), item(3L, "Nut"));
+
+        // When & Then
+        assertThat(names(replica.findAll(PageRequest.of(0, 2)))).containsExactly("Washer", "Bolt");
+        assertThat(names(replica.findAll(PageRequest.of(0, 2, Sort.by("name"))))).containsExactly("Bolt", "Nut");
+        assertThat(names(replica.findAll(PageRequest.of(1, 2, Sort.by("name"))))).containsExactly("Washer");
+        assertThat(names(replica.findAll(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id"))))).containsExactly("Nut", "Bolt", "Washer");
+        assertThat(replica.findAll(PageRequest.of(0, 2)).orElseThrow().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("findAll_withUnsupportedSort_returnsEmpty")
+    void findAll_withUnsupportedSort_returnsEmpty() {
+        // Given
+        load(item(1L, "Bolt"));
+
+        // When & Then
+        assertThat(replica.findAll(PageRequest.of(0, 10, Sort.by("standardCost")))).isEmpty();
+        assertThat(replica.findAll(PageRequest.of(0, 10, Sort.by("name", "id")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllByName_withTermInAnyCase_matchesSubstrings")
+    void findAllByName_withTermInAnyCase_matchesSubstrings() {
+        // Given
+        load(item(1L, "Steel Bolt M10"), item(2L, "Hex Nut M8"), item(3L, "Bolt Cutter"));
+
+        // When
+        Page<InventoryItemResponse> page = replica.findAllByName("BOLT", PageRequest.of(0, 1, Sort.by("name"))).orElseThrow();
+
+        // Then
+        assertThat(page.getContent()).extracting(InventoryItemResponse::name).containsExactly("Bolt Cutter");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("refresh_withLoggedChanges_reloadsOnlyThoseRows")
+    void refresh_withLoggedChanges_reloadsOnlyThoseRows() {
+        // Given
+        load(item(1L, "Bolt"), item(2L, "Nut"));
+        Instant changedAt = LOADED_AT.plusSeconds(5);
+        when(changeLog.findSince(LOADED_AT.minusSeconds(30))).thenReturn(List.of(
+            new InventoryItemChangeLog.Change(1L, changedAt),
+            new InventoryItemChangeLog.Change(2L, changedAt),
+            new InventoryItemChangeLog.Change(3L, changedAt)));
+        when(repository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(item(1L, "Bolt M10"), item(3L, "Washer")));
+        when(catalogVersion.current()).thenReturn(3L);
+
+        // When
+        replica.refresh();
+
+        // Then: 1 updated, 2 deleted, 3 created
+        assertThat(names(replica.findAll(PageRequest.of(0, 10)))).containsExactly("Bolt M10", "Washer");
+        assertThat(replica.catalogVersion()).isEqualTo(3L);
+
+        // And the next poll starts from the newest entry, minus the commit lag
+        when(changeLog.findSince(changedAt.minusSeconds(30))).thenReturn(List.of());
+        replica.refresh();
+        verify(changeLog).findSince(changedAt.minusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("upsertAndRemove_afterLocalWrites_applyImmediately")
+    void upsertAndRemove_afterLocalWrites_applyImmediately() {
+        // Given
+        load(item(1L, "Bolt"), item(2L, "Nut"));
+
+        // When
+        replica.upsert(new InventoryItemResponse(4L, "Gear", null, 1L, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, 0L));
+        replica.remove(1L);
+
+        // Then
+        assertThat(names(replica.findAll(PageRequest.of(0, 10)))).containsExactly("Nut", "Gear");
+    }
+
+    @Test
+    @DisplayName("advanceCatalogVersion_withNextVersion_movesForwardWithTheLocalWrite")
+    void advanceCatalogVersion_withNextVersion_movesForwardWithTheLocalWrite() {
+        // Given
+        when(catalogVersion.current()).thenReturn(5L);
+        load(item(1L, "Bolt"));
+        replica.upsert(response(2L, "Nut"));
+
+        // When
+        replica.advanceCatalogVersion(6L);
+
+        // Then
+        assertThat(replica.catalogVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("advanceCatalogVersion_afterOtherWriters_waitsForThePoll")
+    void advanceCatalogVersion_afterOtherWriters_waitsForThePoll() {
+        // Given
+        when(catalogVersion.current()).thenReturn(5L);
+        load(item(1L, "Bolt"));
+        replica.upsert(response(2L, "Nut"));
+
+        // When: versions 6 and 7 came from writes this replica has not applied
+        replica.advanceCatalogVersion(8L);
+        replica.advanceCatalogVersion(5L);
+
+        // Then
+        assertThat(replica.catalogVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("upsert_withRenamesInsertsAndRemovals_keepsBothOrdersSorted")
+    void upsert_withRenamesInsertsAndRemovals_keepsBothOrdersSorted() {
+        // Given
+        load(item(2L, "Gear"), item(4L, "Bolt"), item(6L, "Nut"), item(8L, "Washer"));
+
+        // When
+        replica.upsert(response(4L, "Spring"));
+        replica.upsert(response(1L, "Anchor"));
+        replica.upsertAll(List.of(response(9L, "Clamp"), response(5L, "Hinge"), response(8L, "Axle")));
+        replica.remove(6L);
+        replica.remove(7L);
+
+        // Then
+        assertThat(names(replica.findAll(PageRequest.of(0, 10, Sort.by("id")))))
+            .containsExactly("Anchor", "Gear", "Spring", "Hinge", "Axle", "Clamp");
+        assertThat(names(replica.findAll(PageRequest.of(0, 10, Sort.by("name")))))
+            .containsExactly("Anchor", "Axle", "Clamp", "Gear", "Hinge", "Spring");
+        assertThat(names(replica.findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")))))
+            .containsExactly("Spring", "Hinge", "Gear", "Clamp", "Axle", "Anchor");
+        assertThat(names(replica.findAllByName("a", PageRequest.of(0, 10, Sort.by("name")))))
+            .containsExactly("Anchor", "Axle", "Clamp", "Gear");
+        assertThat(replica.findById(5L).name()).isEqualTo("Hinge");
+        assertThat(replica.findById(6L)).isNull();
+    }
+
+    private static InventoryItemResponse response(long id, String name) {
+        return new InventoryItemResponse(id, name, null, 1L, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, 0L);
+    }
+
+}
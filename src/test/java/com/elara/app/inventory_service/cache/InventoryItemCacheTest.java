@@ -0,0 +1,242 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.exceptions.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+
+import jdk.jfr.consumer.RecordingStream;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryItemCache Tests")
+class InventoryItemCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Destination.Factory destinationFactory;
+
+    private final Destination destination = () -> "**";
+
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryItemCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BusProperties busProperties = new BusProperties();
+        busProperties.setId("inventory-service:8080:a1");
+        cache = new InventoryItemCache(Duration.ofMinutes(10), 100, meterRegistry, eventPublisher, busProperties,
+            destinationFactory, ticker);
+    }
+
+    private InventoryItemResponse load(Long id) {
+        loads.incrementAndGet();
+        return new InventoryItemResponse(id, "Item " + id, null, 1L,
+            new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00"), 0L);
+    }
+
+    @Test
+    @DisplayName("get_calledTwice_loadsOnceAndRecordsHit")
+    void get_calledTwice_loadsOnceAndRecordsHit() {
+        // When
+        cache.get(1L, this::load);
+        InventoryItemResponse second = cache.get(1L, this::load);
+
+        // Then
+        assertThat(second.name()).isEqualTo("Item 1");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", InventoryItemCache.CACHE_NAME).gauge().value())
+            .isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("get_whenLoaderThrows_cachesNothing")
+    void get_whenLoaderThrows_cachesNothing() {
+        // When & Then
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new ResourceNotFoundException("not found");
+        })).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("get_afterTtl_reloads")
+    void get_afterTtl_reloads() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        cache.get(1L, this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("get_withEvictionDuringLoad_doesNotKeepLoadedValue")
+    void get_withEvictionDuringLoad_doesNotKeepLoadedValue() {
+        // When: the eviction for a concurrent write arrives while the old row is being read
+        InventoryItemResponse loaded = cache.get(1L, id -> {
+            InventoryItemResponse response = load(id);
+            cache.evictLocally(id);
+            return response;
+        });
+
+        // Then
+        assertThat(loaded.name()).isEqualTo("Item 1");
+        cache.get(1L, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("get_withConcurrentCallers_sharesOneLoad")
+    void get_withConcurrentCallers_sharesOneLoad() throws Exception {
+        // Given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = Thread.ofVirtual().start(() -> cache.get(1L, id -> {
+            loadStarted.countDown();
+            awaitQuietly(release);
+            return load(id);
+        }));
+        loadStarted.await();
+
+        // When
+        Thread follower = Thread.ofVirtual().start(() -> cache.get(1L, this::load));
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // Then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get_withBlockingLoadOnVirtualThread_doesNotPinCarrier")
+    void get_withBlockingLoadOnVirtualThread_doesNotPinCarrier() throws Exception {
+        Set<Long> pinnedThreads = ConcurrentHashMap.newKeySet();
+        try (RecordingStream recording = new RecordingStream()) {
+            // Given: a recorder shown to catch pinning, by a virtual thread that sleeps holding a monitor
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedThreads.add(event.getThread().getJavaThreadId()));
+            recording.startAsync();
+            Object monitor = new Object();
+            Thread control = Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    sleepQuietly(50);
+                }
+            });
+            control.join();
+
+            // When: the load blocks the way a JDBC read does
+            Thread caller = Thread.ofVirtual().start(() -> cache.get(1L, id -> {
+                sleepQuietly(50);
+                return load(id);
+            }));
+            caller.join();
+            recording.stop();
+
+            // Then
+            assertThat(pinnedThreads).contains(control.threadId()).doesNotContain(caller.threadId());
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("evict_withBusActive_dropsEntryAndBroadcastsEvent")
+    void evict_withBusActive_dropsEntryAndBroadcastsEvent() {
+        // Given
+        when(destinationFactory.getDestination(null)).thenReturn(destination);
+        cache.get(1L, this::load);
+
+        // When
+        cache.evict(1L);
+
+        // Then
+        cache.get(1L, this::load);
+        assertThat(loads).hasValue(2);
+        ArgumentCaptor<InventoryItemCacheEvictionEvent> event = ArgumentCaptor.forClass(InventoryItemCacheEvictionEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getItemId()).isEqualTo(1L);
+        assertThat(event.getValue().getOriginService()).isEqualTo("inventory-service:8080:a1");
+    }
+
+    @Test
+    @DisplayName("evict_withoutBus_onlyDropsLocalEntry")
+    void evict_withoutBus_onlyDropsLocalEntry() {
+        // Given
+        InventoryItemCache localOnly = new InventoryItemCache(Duration.ofMinutes(10), 100, new SimpleMeterRegistry(),
+            eventPublisher, null, null, ticker);
+        localOnly.get(1L, this::load);
+
+        // When
+        localOnly.evict(1L);
+
+        // Then
+        assertThat(localOnly.estimatedSize()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("onEviction_withRemoteEvent_dropsEntry")
+    void onEviction_withRemoteEvent_dropsEntry() {
+        // Given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // When
+        cache.onEviction(new InventoryItemCacheEvictionEvent(this, "inventory-service:8081:b2", destination, 1L));
+
+        // Then
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        assertThat(loads).hasValue(3);
+        verifyNoInteractions(eventPublisher);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ItemNameBloomFilter Tests")
+class ItemNameBloomFilterTest {
+
+    private static final int ITEMS = 10_000;
+
+    @Mock
+    private InventoryItemRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ItemNameBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ItemNameBloomFilter(repository, meterRegistry, ITEMS, 0.01);
+    }
+
+    private void rebuildWith(List<ItemNameSuggestion> items) {
+        when(repository.count()).thenReturn((long) items.size());
+        when(repository.findAllNames()).thenReturn(items);
+        filter.rebuild();
+    }
+
+    private static List<ItemNameSuggestion> items(int count) {
+        return LongStream.range(0, count).mapToObj(id -> new ItemNameSuggestion(id, "Item " + id)).toList();
+    }
+
+    @Test
+    @DisplayName("mightContain_beforeRebuild_returnsTrue")
+    void mightContain_beforeRebuild_returnsTrue() {
+        assertThat(filter.mightContain("anything")).isTrue();
+        assertThat(filter.expectedFalsePositiveRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("mightContain_withLoadedNamesInAnyCase_neverReturnsFalse")
+    void mightContain_withLoadedNamesInAnyCase_neverReturnsFalse() {
+        // Given
+        rebuildWith(items(ITEMS));
+
+        // When & Then
+        for (int id = 0; id < ITEMS; id++) {
+            assertThat(filter.mightContain("ITEM " + id)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain_withUnknownNames_staysUnderTargetFalsePositiveRate")
+    void mightContain_withUnknownNames_staysUnderTargetFalsePositiveRate() {
+        // Given
+        rebuildWith(items(ITEMS));
+
+        // When
+        long falsePositives = LongStream.range(0, 100_000).filter(id -> filter.mightContain("Other " + id)).count();
+
+        // Then: the filter is sized for twice the loaded names, so both rates stay under the 1% target
+        assertThat(falsePositives / 100_000.0).isLessThan(0.01);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("put_afterRebuild_makesNameVisible")
+    void put_afterRebuild_makesNameVisible() {
+        // Given
+        rebuildWith(items(10));
+        assertThat(filter.mightContain("Hex Nut M8")).isFalse();
+
+        // When
+        filter.put("Hex Nut M8");
+
+        // Then
+        assertThat(filter.mightContain("hex nut m8")).isTrue();
+    }
+
+    @Test
+    @DisplayName("gauges_afterLookups_reportObservedFalsePositiveRate")
+    void gauges_afterLookups_reportObservedFalsePositiveRate() {
+        // Given
+        rebuildWith(items(10));
+        filter.mightContain("Unknown A");
+        filter.mightContain("Unknown B");
+        filter.mightContain("Unknown C");
+
+        // When
+        filter.recordFalsePositives(1);
+
+        // Then
+        assertThat(meterRegistry.get(ItemNameBloomFilter.METRIC_PREFIX + ".false.positive.rate").gauge().value())
+            .isEqualTo(0.25);
+        assertThat(meterRegistry.get(ItemNameBloomFilter.METRIC_PREFIX + ".expected.false.positive.rate").gauge().value())
+            .isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("rebuild_withDeletedName_dropsItAndResetsCounters")
+    void rebuild_withDeletedName_dropsItAndResetsCounters() {
+        // Given
+        rebuildWith(List.of(new ItemNameSuggestion(1L, "Steel Bolt M10")));
+        filter.mightContain("Unknown");
+        filter.recordFalsePositives(1);
+
+        // When
+        rebuildWith(List.of());
+
+        // Then
+        assertThat(filter.observedFalsePositiveRate()).isZero();
+        assertThat(filter.mightContain("Steel Bolt M10")).isFalse();
+    }
+
+}
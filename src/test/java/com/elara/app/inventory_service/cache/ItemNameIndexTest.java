@@ -0,0 +1,185 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ItemNameIndex")
+class ItemNameIndexTest {
+
+    @Mock
+    private InventoryItemRepository repository;
+
+    private ItemNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ItemNameIndex(repository);
+        when(repository.findAllNames()).thenReturn(List.of(
+            new ItemNameSuggestion(3L, "Steel Bolt M10"),
+            new ItemNameSuggestion(1L, "Bolt Cutter"),
+            new ItemNameSuggestion(2L, "Hex Nut (M10)")
+        ));
+        index.rebuild();
+    }
+
+    private List<Long> idsFor(String prefix) {
+        return index.autocomplete(prefix, 10).stream().map(ItemNameSuggestion::id).toList();
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Prefix of any word, matches case-insensitively")
+        void autocomplete_withWordPrefix_matchesAnyWord() {
+            verify(repository).findAllNames();
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(idsFor("BOL")).containsExactly(1L, 3L);
+            assertThat(idsFor("m10")).containsExactlyInAnyOrder(2L, 3L);
+            assertThat(idsFor("steel bolt")).containsExactly(3L);
+            assertThat(idsFor("olt")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Name matching at several words, returned once")
+        void autocomplete_withSeveralMatchingWords_returnsItemOnce() {
+            // Given
+            index.put(4L, "Bolt Bolt Bolt");
+
+            // When & Then
+            assertThat(idsFor("bolt")).containsExactly(4L, 1L, 3L);
+        }
+
+        @Test
+        @DisplayName("Limit, caps the number of suggestions")
+        void autocomplete_withLimit_capsResults() {
+            assertThat(index.autocomplete("b", 1)).containsExactly(new ItemNameSuggestion(1L, "Bolt Cutter"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Maintenance")
+    class MaintenanceTests {
+
+        @Test
+        @DisplayName("Rename, replaces the old keys")
+        void put_withExistingId_replacesOldKeys() {
+            // When
+            index.put(1L, "Wire Cutter");
+
+            // Then
+            assertThat(idsFor("bolt")).containsExactly(3L);
+            assertThat(index.autocomplete("wire", 10)).containsExactly(new ItemNameSuggestion(1L, "Wire Cutter"));
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Remove, drops the item and ignores unknown ids")
+        void remove_dropsItem() {
+            // When
+            index.remove(3L);
+            index.remove(99L);
+
+            // Then
+            assertThat(idsFor("bolt")).containsExactly(1L);
+            assertThat(idsFor("steel")).isEmpty();
+            assertThat(index.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Batch of inserts and renames, applied in one pass")
+        void putAll_withInsertsAndRenames_appliesWholeBatch() {
+            // When
+            index.putAll(List.of(
+                new ItemNameSuggestion(5L, "Bolt Anchor"),
+                new ItemNameSuggestion(3L, "Steel Washer M10"),
+                new ItemNameSuggestion(4L, "Anchor Plate"),
+                new ItemNameSuggestion(5L, "Wall Anchor")));
+
+            // Then
+            assertThat(index.size()).isEqualTo(5);
+            assertThat(idsFor("bolt")).containsExactly(1L);
+            assertThat(idsFor("anchor")).containsExactly(5L, 4L);
+            assertThat(index.autocomplete("steel", 10)).containsExactly(new ItemNameSuggestion(3L, "Steel Washer M10"));
+            assertThat(idsFor("m10")).containsExactlyInAnyOrder(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Rebuild, picks up names written elsewhere and keeps writes made while it reads")
+        void rebuild_withWritesDuringQuery_keepsThem() {
+            // Given
+            when(repository.findAllNames()).thenAnswer(invocation -> {
+                index.put(7L, "Gear Rack");
+                index.remove(1L);
+                return List.of(
+                    new ItemNameSuggestion(1L, "Bolt Cutter"),
+                    new ItemNameSuggestion(2L, "Hex Nut (M10)"),
+                    new ItemNameSuggestion(6L, "Spring Washer"));
+            });
+
+            // When
+            index.rebuild();
+
+            // Then
+            assertThat(idsFor("spring")).containsExactly(6L);
+            assertThat(idsFor("gear")).containsExactly(7L);
+            assertThat(idsFor("bolt")).isEmpty();
+            assertThat(idsFor("steel")).isEmpty();
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Concurrent writers and readers, end with every write applied")
+        void putAll_concurrently_appliesEveryWrite() throws Exception {
+            // Given
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> writers = List.of(0, 1, 2, 3).stream()
+                    .<Future<?>>map(writer -> pool.submit(() -> {
+                        start.await();
+                        for (int item = 0; item < 250; item++) {
+                            long id = 100L + writer * 1000L + item;
+                            index.put(id, "Part " + id);
+                            index.autocomplete("part", 5);
+                        }
+                        return null;
+                    }))
+                    .toList();
+
+                // When
+                start.countDown();
+                for (Future<?> writer : writers) {
+                    writer.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            // Then
+            assertThat(index.size()).isEqualTo(1003);
+            assertThat(index.autocomplete("part 3349", 10)).containsExactly(new ItemNameSuggestion(3349L, "Part 3349"));
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.elara.app.inventory_service.cache;
+
+import com.elara.app.inventory_service.dto.response.UomCacheStatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UomCacheEndpoint Tests")
+class UomCacheEndpointTest {
+
+    private UomVerificationCache cache;
+    private UomCacheEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UomVerificationCache(Duration.ofMinutes(30), Duration.ofMinutes(1), Duration.ofHours(2), 100, new SimpleMeterRegistry());
+        endpoint = new UomCacheEndpoint(cache);
+    }
+
+    @Test
+    @DisplayName("stats_withHitsAndMisses_reportsCounters")
+    void stats_withHitsAndMisses_reportsCounters() {
+        // Given
+        cache.put(1L, true);
+        cache.getIfPresent(1L);
+        cache.getIfPresent(2L);
+
+        // When
+        UomCacheStatsResponse stats = endpoint.stats();
+
+        // Then
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("flush_withCachedEntries_invalidatesAll")
+    void flush_withCachedEntries_invalidatesAll() {
+        // Given
+        cache.put(1L, true);
+
+        // When
+        endpoint.flush();
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+}
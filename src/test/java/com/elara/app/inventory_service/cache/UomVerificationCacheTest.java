@@ -0,0 +1,127 @@
+package com.elara.app.inventory_service.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UomVerificationCache Tests")
+class UomVerificationCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private SimpleMeterRegistry meterRegistry;
+    private UomVerificationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UomVerificationCache(Duration.ofMinutes(30), Duration.ofMinutes(1), Duration.ofHours(2), 2, meterRegistry, ticker);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("getIfPresent_withUnknownId_returnsNull")
+    void getIfPresent_withUnknownId_returnsNull() {
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getIfPresent_afterNotFoundTtl_expiresOnlyNegativeEntries")
+    void getIfPresent_afterNotFoundTtl_expiresOnlyNegativeEntries() {
+        // Given
+        cache.put(1L, true);
+        cache.put(2L, false);
+
+        // When
+        advance(Duration.ofMinutes(2));
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isTrue();
+        assertThat(cache.getIfPresent(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("getIfPresent_afterFoundTtl_expiresPositiveEntries")
+    void getIfPresent_afterFoundTtl_expiresPositiveEntries() {
+        // Given
+        cache.put(1L, true);
+
+        // When
+        advance(Duration.ofMinutes(31));
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("isRecentlyConfirmed_afterFoundTtl_remembersIdUntilFallbackTtl")
+    void isRecentlyConfirmed_afterFoundTtl_remembersIdUntilFallbackTtl() {
+        // Given
+        cache.put(1L, true);
+
+        // When
+        advance(Duration.ofMinutes(31));
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.isRecentlyConfirmed(1L)).isTrue();
+        advance(Duration.ofHours(2));
+        assertThat(cache.isRecentlyConfirmed(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("isRecentlyConfirmed_afterNotFound_forgetsEarlierConfirmation")
+    void isRecentlyConfirmed_afterNotFound_forgetsEarlierConfirmation() {
+        // Given
+        cache.put(1L, true);
+
+        // When
+        cache.put(1L, false);
+
+        // Then
+        assertThat(cache.isRecentlyConfirmed(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("invalidateAll_withEntries_emptiesCache")
+    void invalidateAll_withEntries_emptiesCache() {
+        // Given
+        cache.put(1L, true);
+        cache.put(2L, false);
+
+        // When
+        cache.invalidateAll();
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.getIfPresent(2L)).isNull();
+        assertThat(cache.isRecentlyConfirmed(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("constructor_withMeterRegistry_registersCacheMetrics")
+    void constructor_withMeterRegistry_registersCacheMetrics() {
+        // Given
+        cache.put(1L, true);
+        cache.getIfPresent(1L);
+        cache.getIfPresent(3L);
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UomVerificationCache.CACHE_NAME).tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UomVerificationCache.CACHE_NAME).tag("result", "miss")
+            .functionCounter().count()).isEqualTo(1.0);
+    }
+
+}
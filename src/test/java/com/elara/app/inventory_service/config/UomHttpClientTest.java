@@ -0,0 +1,198 @@
+package com.elara.app.inventory_service.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the pooled UOM client against a local stub of unit-of-measure-service. The load comparison with the
+ * previous {@link SimpleClientHttpRequestFactory} is skipped unless asked for:
+ * <pre>
+ * mvn test -Dtest=UomHttpClientTest -Dbenchmark.uom.load=true
+ * </pre>
+ */
+@DisplayName("UOM HTTP client Tests")
+class UomHttpClientTest {
+
+    private static final String UOM_BODY =
+        "{\"id\":1,\"name\":\"Each\",\"description\":\"Individual unit\",\"conversionFactorToBase\":1.00,\"uomStatusId\":1}";
+    private static final int MAX_CONNECTIONS = 50;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final int LOAD_THREADS = 32;
+
+    private final AppConfig appConfig = new AppConfig();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile long stubDelayMs;
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(64);
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                Thread.sleep(stubDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = UOM_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        stub.start();
+        connectionManager = appConfig.uomConnectionManager(MAX_CONNECTIONS, MAX_CONNECTIONS_PER_ROUTE, Duration.ofSeconds(1),
+            Duration.ofMillis(300), Duration.ofSeconds(2), Duration.ofMinutes(5));
+        httpClient = appConfig.uomHttpClient(connectionManager, Duration.ofMillis(300), Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    private URI uomUri() {
+        return URI.create("http://localhost:" + stub.getAddress().getPort() + "/1");
+    }
+
+    @Test
+    @DisplayName("getForEntity_sequentialCalls_reuseOnePooledConnection")
+    void getForEntity_sequentialCalls_reuseOnePooledConnection() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        // When
+        for (int call = 0; call < 20; call++) {
+            assertThat(restTemplate.getForEntity(uomUri(), String.class).getStatusCode().is2xxSuccessful()).isTrue();
+        }
+
+        // Then
+        assertThat(clientPorts).hasSize(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getForEntity_withSlowService_failsAfterReadTimeout")
+    void getForEntity_withSlowService_failsAfterReadTimeout() {
+        // Given
+        stubDelayMs = 1000;
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        // When & Then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForEntity(uomUri(), String.class))
+            .isInstanceOf(ResourceAccessException.class)
+            .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("uomConnectionPoolMetrics_whenBound_publishesPoolGauges")
+    void uomConnectionPoolMetrics_whenBound_publishesPoolGauges() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // When
+        appConfig.uomConnectionPoolMetrics(connectionManager).bindTo(meterRegistry);
+
+        // Then
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+            .tag("httpclient", AppConfig.UOM_POOL_NAME).gauge().value()).isEqualTo(MAX_CONNECTIONS);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+            .tag("httpclient", AppConfig.UOM_POOL_NAME).gauge().value()).isEqualTo(MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.uom.load", matches = "true")
+    @DisplayName("load_pooledAgainstSimpleFactory_reportsThroughputAndConnections")
+    void load_pooledAgainstSimpleFactory_reportsThroughputAndConnections() throws Exception {
+        // Given: a stub answering in 5 ms and more callers than the pool allows per route
+        stubDelayMs = 5;
+        SimpleClientHttpRequestFactory simpleFactory = new SimpleClientHttpRequestFactory();
+        HttpComponentsClientHttpRequestFactory pooledFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+
+        // When
+        run("simple (HttpURLConnection)", simpleFactory, 320);
+        clientPorts.clear();
+        run("simple (HttpURLConnection)", simpleFactory, 6400);
+        int simpleConnections = clientPorts.size();
+        run("pooled (HttpClient 5)", pooledFactory, 320);
+        clientPorts.clear();
+        run("pooled (HttpClient 5)", pooledFactory, 6400);
+
+        // Then
+        System.out.printf("connections used: simple=%d, pooled=%d%n", simpleConnections, clientPorts.size());
+        assertThat(clientPorts.size()).isLessThanOrEqualTo(MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    private void run(String label, ClientHttpRequestFactory factory, int requests) throws Exception {
+        RestTemplate restTemplate = new RestTemplate(factory);
+        ExecutorService callers = Executors.newFixedThreadPool(LOAD_THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int thread = 0; thread < LOAD_THREADS; thread++) {
+                results.add(callers.submit(() -> {
+                    long[] latencies = new long[requests / LOAD_THREADS];
+                    for (int call = 0; call < latencies.length; call++) {
+                        long callStart = System.nanoTime();
+                        restTemplate.getForEntity(uomUri(), String.class);
+                        latencies[call] = System.nanoTime() - callStart;
+                    }
+                    return latencies;
+                }));
+            }
+            List<Long> latencies = new ArrayList<>();
+            for (Future<long[]> result : results) {
+                Arrays.stream(result.get()).forEach(latencies::add);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            latencies.sort(null);
+            System.out.printf("%-28s %6d requests, %8.0f req/s, p50 %5.1f ms, p99 %5.1f ms%n", label, latencies.size(),
+                latencies.size() / seconds, latencies.get(latencies.size() / 2) / 1e6,
+                latencies.get((int) (latencies.size() * 0.99)) / 1e6);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+}
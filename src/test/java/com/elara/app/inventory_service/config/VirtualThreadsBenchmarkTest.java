@@ -0,0 +1,188 @@
+package com.elara.app.inventory_service.config;
+
+import com.elara.app.inventory_service.InventoryServiceApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput of the real create and lookup path, {@code POST /item/} followed by {@code GET /item/{id}},
+ * with Tomcat on its default platform-thread pool and with the {@code virtual-threads} profile, at 2000
+ * concurrent connections. The UOM service is a local stub that answers after {@code UOM_DELAY_MS}, and every
+ * create names a new UOM id so the verification cache never answers for it. Both modes run with the same
+ * Hikari pool size. Skipped unless asked for:
+ * <pre>
+ * mvn test -Dtest=VirtualThreadsBenchmarkTest -Dbenchmark.virtual-threads=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.virtual-threads", matches = "true")
+@DisplayName("Virtual threads benchmark (create and read items)")
+class VirtualThreadsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsBenchmarkTest.class);
+
+    private static final int CONNECTIONS = 2000;
+    private static final long UOM_DELAY_MS = 20;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURED = Duration.ofSeconds(10);
+    private static final String UOM_SERVICE = "uom-benchmark";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static HttpServer uomStub;
+
+    private record Result(long completed, long failed) {
+    }
+
+    @BeforeAll
+    static void startUomStub() throws IOException {
+        uomStub = HttpServer.create(new InetSocketAddress("localhost", 0), CONNECTIONS);
+        uomStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        uomStub.createContext("/", exchange -> {
+            try {
+                Thread.sleep(UOM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String id = exchange.getRequestURI().getPath().substring(1);
+            byte[] body = ("{\"id\":" + id + ",\"name\":\"Unit\",\"conversionFactorToBase\":1,\"uomStatusId\":1}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        uomStub.start();
+    }
+
+    @AfterAll
+    static void stopUomStub() {
+        uomStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("createAndRead_withPlatformAndVirtualThreads_completesWithoutFailures")
+    void createAndRead_withPlatformAndVirtualThreads_completesWithoutFailures() throws Exception {
+        // When
+        Result platform = measure(false);
+        Result virtual = measure(true);
+
+        // Then
+        log.info("virtual / platform throughput: {}x",
+            String.format("%.1f", virtual.completed() / (double) Math.max(platform.completed(), 1)));
+        assertThat(platform.failed()).isZero();
+        assertThat(virtual.failed()).isZero();
+        assertThat(platform.completed()).isPositive();
+        assertThat(virtual.completed()).isPositive();
+    }
+
+    private Result measure(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(InventoryServiceApplication.class)
+            .properties(Map.of(
+                "server.port", "0",
+                "spring.datasource.hikari.maximum-pool-size", "20",
+                "uom.service.name", UOM_SERVICE,
+                "spring.cloud.discovery.client.simple.instances." + UOM_SERVICE + "[0].uri",
+                "http://localhost:" + uomStub.getAddress().getPort(),
+                // Limits sized for the benchmark, so the UOM guard and pool never reject and only the threading differs
+                "uom.resilience.max-concurrent-calls", String.valueOf(CONNECTIONS),
+                "uom.resilience.slow-call-duration", "30s",
+                "uom.http.max-connections", String.valueOf(CONNECTIONS),
+                "uom.http.pool-timeout", "30s",
+                "uom.http.read-timeout", "30s"));
+        if (virtualThreads) {
+            application.profiles("virtual-threads");
+        }
+        String label = virtualThreads ? "virtual threads" : "platform threads (max 200)";
+
+        try (ConfigurableApplicationContext context = application.run();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/item/");
+            drive(client, base, WARMUP);
+            Result result = drive(client, base, MEASURED);
+            log.info("{}: {} connections, {} req/s, {} failed", label, CONNECTIONS,
+                result.completed() / MEASURED.toSeconds(), result.failed());
+            return result;
+        }
+    }
+
+    private static Result drive(HttpClient client, URI base, Duration duration) throws InterruptedException {
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> callers = new ArrayList<>(CONNECTIONS);
+        for (int caller = 0; caller < CONNECTIONS; caller++) {
+            callers.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        long id = create(client, base);
+                        completed.incrementAndGet();
+                        read(client, base, id);
+                        completed.incrementAndGet();
+                    } catch (IOException | IllegalStateException e) {
+                        failed.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }));
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        return new Result(completed.get(), failed.get());
+    }
+
+    private static long create(HttpClient client, URI base) throws IOException, InterruptedException {
+        long next = sequence.incrementAndGet();
+        String body = "{\"name\":\"Benchmark item " + next + "\",\"baseUnitOfMeasureId\":" + next
+            + ",\"standardCost\":2.50,\"unitPerPurchaseUom\":10,\"reorderPointQuantity\":50}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(base)
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Create answered " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private static void read(HttpClient client, URI base, long id) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(base.resolve(String.valueOf(id)))
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Lookup answered " + response.statusCode());
+        }
+    }
+
+}
@@ -1,30 +1,44 @@
 package com.elara.app.inventory_service.controller;
 
 import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.CursorResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResult;
+import com.elara.app.inventory_service.dto.response.InventoryItemImportProgress;
 import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.dto.response.SliceResponse;
 import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.elara.app.inventory_service.exceptions.InvalidDataException;
+import com.elara.app.inventory_service.exceptions.PreconditionFailedException;
 import com.elara.app.inventory_service.exceptions.ResourceConflictException;
 import com.elara.app.inventory_service.exceptions.ResourceNotFoundException;
+import com.elara.app.inventory_service.service.interfaces.InventoryItemImportService;
 import com.elara.app.inventory_service.service.interfaces.InventoryItemService;
 import com.elara.app.inventory_service.utils.MessageService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +56,9 @@ class InventoryItemControllerTest {
     @MockitoBean
     private InventoryItemService service;
 
+    @MockitoBean
+    private InventoryItemImportService importService;
+
     @MockitoBean
     private MessageService messageService;
 
@@ -50,7 +67,7 @@ class InventoryItemControllerTest {
 
     @AfterEach
     void tearDown() {
-        reset(service);
+        reset(service, importService);
     }
 
     // ========================================
@@ -87,7 +104,8 @@ class InventoryItemControllerTest {
             1L,
             new BigDecimal("2.50"),
             new BigDecimal("10.00"),
-            new BigDecimal("50.00")
+            new BigDecimal("50.00"),
+            0L
         );
     }
 
@@ -227,7 +245,8 @@ class InventoryItemControllerTest {
                 1L,
                 new BigDecimal("999.99"),
                 new BigDecimal("999.99"),
-                new BigDecimal("999.99")
+                new BigDecimal("999.99"),
+                0L
             );
 
             when(service.save(any(InventoryItemRequest.class))).thenReturn(response);
@@ -281,6 +300,144 @@ class InventoryItemControllerTest {
         }
     }
 
+    // ========================================
+    // BATCH CREATE OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Batch Create Operation Tests - POST /item/batch")
+    class CreateBatchTests {
+
+        @Test
+        @DisplayName("createBatch_withAllRowsCreated_returnsCreated201")
+        void createBatch_withAllRowsCreated_returnsCreated201() throws Exception {
+            // Given
+            List<InventoryItemRequest> requests = List.of(createStandardRequest());
+            InventoryItemBatchResponse response = new InventoryItemBatchResponse(1, 1, 0, List.of(
+                new InventoryItemBatchResult(0, InventoryItemBatchResult.Status.CREATED, createStandardResponse(), null, null, null)
+            ));
+            when(service.saveAll(anyList())).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(post("/item/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].item.name").value("Steel Bolt M10"));
+
+            verify(service).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("createBatch_withFailedRows_returnsMultiStatus207")
+        void createBatch_withFailedRows_returnsMultiStatus207() throws Exception {
+            // Given
+            List<InventoryItemRequest> requests = List.of(createStandardRequest(), createStandardRequest());
+            InventoryItemBatchResponse response = new InventoryItemBatchResponse(2, 1, 1, List.of(
+                new InventoryItemBatchResult(0, InventoryItemBatchResult.Status.CREATED, createStandardResponse(), null, null, null),
+                new InventoryItemBatchResult(1, InventoryItemBatchResult.Status.FAILED, null, 1003, "RESOURCE_CONFLICT",
+                    "InventoryItem with name 'Steel Bolt M10' already exists")
+            ));
+            when(service.saveAll(anyList())).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(post("/item/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].code").value(1003))
+                .andExpect(jsonPath("$.results[1].value").value("RESOURCE_CONFLICT"));
+        }
+
+        @Test
+        @DisplayName("createBatch_withEmptyList_returnsBadRequest400")
+        void createBatch_withEmptyList_returnsBadRequest400() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/item/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andExpect(status().isBadRequest());
+
+            verify(service, never()).saveAll(anyList());
+        }
+    }
+
+    // ========================================
+    // IMPORT OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Import Operation Tests - POST /item/import")
+    class ImportTests {
+
+        @Test
+        @DisplayName("importItems_withNdjsonBody_streamsProgressLines")
+        void importItems_withNdjsonBody_streamsProgressLines() throws Exception {
+            // Given
+            InventoryItemImportProgress chunk = new InventoryItemImportProgress(
+                InventoryItemImportProgress.Status.IN_PROGRESS, 1, 2, 2, 0, List.of(), null);
+            InventoryItemImportProgress completed = new InventoryItemImportProgress(
+                InventoryItemImportProgress.Status.COMPLETED, 1, 2, 2, 0, List.of(), "done");
+            when(importService.importItems(any(), eq(InventoryItemImportService.Format.NDJSON), eq(2), eq(0), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<InventoryItemImportProgress> listener = invocation.getArgument(4);
+                    listener.accept(chunk);
+                    listener.accept(completed);
+                    return completed;
+                });
+
+            // When & Then
+            String body = mockMvc.perform(post("/item/import")
+                    .param("chunkSize", "2")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content("{}\n{}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+            assertThat(body.lines().toList()).hasSize(2);
+            assertThat(objectMapper.readValue(body.lines().toList().getLast(), InventoryItemImportProgress.class))
+                .isEqualTo(completed);
+        }
+
+        @Test
+        @DisplayName("importItems_withCsvBody_usesCsvFormat")
+        void importItems_withCsvBody_usesCsvFormat() throws Exception {
+            // Given
+            InventoryItemImportProgress completed = new InventoryItemImportProgress(
+                InventoryItemImportProgress.Status.COMPLETED, 0, 10, 0, 0, List.of(), "done");
+            when(importService.importItems(any(), any(), anyInt(), anyInt(), any())).thenReturn(completed);
+
+            // When & Then
+            mockMvc.perform(post("/item/import")
+                    .param("resumeFrom", "10")
+                    .contentType("text/csv")
+                    .content("name\n"))
+                .andExpect(status().isOk());
+
+            verify(importService).importItems(any(), eq(InventoryItemImportService.Format.CSV), eq(500), eq(10), any());
+        }
+
+        @Test
+        @DisplayName("importItems_withChunkSizeAboveLimit_returnsBadRequest400")
+        void importItems_withChunkSizeAboveLimit_returnsBadRequest400() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/item/import")
+                    .param("chunkSize", "5001")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content("{}"))
+                .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(importService);
+        }
+    }
+
     // ========================================
     // GET BY ID OPERATION TESTS
     // ========================================
@@ -304,9 +461,52 @@ class InventoryItemControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value("Steel Bolt M10"))
-                .andExpect(jsonPath("$.standardCost").value(2.50));
+                .andExpect(jsonPath("$.standardCost").value(2.50))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
 
             verify(service).findById(id);
+            verify(service, never()).findVersionById(any());
+        }
+
+        @Test
+        @DisplayName("getById_withCurrentETag_returnsNotModified304WithoutLoadingItem")
+        void getById_withCurrentETag_returnsNotModified304WithoutLoadingItem() throws Exception {
+            // Given
+            when(service.findVersionById(1L)).thenReturn(3L);
+
+            // When & Then
+            mockMvc.perform(get("/item/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"2\", \"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+            verify(service, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("getById_withStaleETag_returnsOk200WithCurrentETag")
+        void getById_withStaleETag_returnsOk200WithCurrentETag() throws Exception {
+            // Given
+            when(service.findVersionById(1L)).thenReturn(0L);
+            when(service.findById(1L)).thenReturn(createStandardResponse());
+
+            // When & Then
+            mockMvc.perform(get("/item/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "W/\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+        }
+
+        @Test
+        @DisplayName("getById_withETagForMissingItem_returnsNotFound404")
+        void getById_withETagForMissingItem_returnsNotFound404() throws Exception {
+            // Given
+            when(service.findVersionById(999L))
+                .thenThrow(new ResourceNotFoundException("InventoryItem with id '999' not found"));
+
+            // When & Then
+            mockMvc.perform(get("/item/{id}", 999L).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotFound());
         }
 
         @Test
@@ -398,7 +598,8 @@ class InventoryItemControllerTest {
                 2L,
                 new BigDecimal("5.75"),
                 new BigDecimal("100.00"),
-                new BigDecimal("200.00")
+                new BigDecimal("200.00"),
+                0L
             );
 
             Page<InventoryItemResponse> page = new PageImpl<>(
@@ -422,11 +623,39 @@ class InventoryItemControllerTest {
                         hasEntry("totalPages", 1),
                         hasEntry("size", 20),
                         hasEntry("number", 0)
-                )));
+                )))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalog-0\""));
 
             verify(service).findAll(any(Pageable.class));
         }
 
+        @Test
+        @DisplayName("getAll_withCurrentCatalogETag_returnsNotModified304WithoutQuerying")
+        void getAll_withCurrentCatalogETag_returnsNotModified304WithoutQuerying() throws Exception {
+            // Given
+            when(service.findCatalogVersion()).thenReturn(42L);
+
+            // When & Then
+            mockMvc.perform(get("/item/").header(HttpHeaders.IF_NONE_MATCH, "\"catalog-42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalog-42\""));
+
+            verify(service, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("getAll_afterCatalogChange_returnsOk200WithNewETag")
+        void getAll_afterCatalogChange_returnsOk200WithNewETag() throws Exception {
+            // Given
+            when(service.findCatalogVersion()).thenReturn(43L);
+            when(service.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(createStandardResponse()), PageRequest.of(0, 20), 1));
+
+            // When & Then
+            mockMvc.perform(get("/item/").header(HttpHeaders.IF_NONE_MATCH, "\"catalog-42\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalog-43\""));
+        }
+
         @Test
         @DisplayName("getAll_withCustomPagination_returnsOk200")
         void getAll_withCustomPagination_returnsOk200() throws Exception {
@@ -523,7 +752,8 @@ class InventoryItemControllerTest {
                 1L,
                 new BigDecimal("3.25"),
                 new BigDecimal("8.00"),
-                new BigDecimal("40.00")
+                new BigDecimal("40.00"),
+                0L
             );
 
             Page<InventoryItemResponse> page = new PageImpl<>(
@@ -646,6 +876,203 @@ class InventoryItemControllerTest {
         }
     }
 
+    // ========================================
+    // AUTOCOMPLETE OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Autocomplete Operation Tests - GET /item/autocomplete")
+    class AutocompleteTests {
+
+        @Test
+        @DisplayName("autocomplete_withPrefix_returnsSuggestions")
+        void autocomplete_withPrefix_returnsSuggestions() throws Exception {
+            // Given
+            when(service.autocomplete("bol", 10)).thenReturn(List.of(new ItemNameSuggestion(1L, "Steel Bolt M10")));
+
+            // When & Then
+            mockMvc.perform(get("/item/autocomplete").param("prefix", "bol"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Steel Bolt M10"));
+        }
+
+        @Test
+        @DisplayName("autocomplete_withBlankPrefix_returnsBadRequest400")
+        void autocomplete_withBlankPrefix_returnsBadRequest400() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/item/autocomplete").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+
+            verify(service, never()).autocomplete(anyString(), anyInt());
+        }
+    }
+
+    // ========================================
+    // SLICE OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Slice Operation Tests - GET /item/slice, GET /item/search/slice")
+    class SliceTests {
+
+        @Test
+        @DisplayName("getAllAsSlice_withDefaults_returnsSliceWithoutTotal")
+        void getAllAsSlice_withDefaults_returnsSliceWithoutTotal() throws Exception {
+            // Given
+            SliceResponse<InventoryItemResponse> response = new SliceResponse<>(
+                List.of(createStandardResponse()), 0, 20, true, null, SliceResponse.Total.NONE);
+            when(service.findAllAsSlice(any(Pageable.class), eq(SliceResponse.Total.NONE))).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/item/slice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").isEmpty());
+
+            verify(service, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("getAllByNameAsSlice_withEstimatedTotal_returnsEstimate")
+        void getAllByNameAsSlice_withEstimatedTotal_returnsEstimate() throws Exception {
+            // Given
+            SliceResponse<InventoryItemResponse> response = new SliceResponse<>(
+                List.of(), 0, 20, false, 42L, SliceResponse.Total.ESTIMATED);
+            when(service.findAllByNameAsSlice(eq("bolt"), any(Pageable.class), eq(SliceResponse.Total.ESTIMATED))).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/item/search/slice").param("name", "bolt").param("total", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(42))
+                .andExpect(jsonPath("$.total").value("ESTIMATED"));
+        }
+
+        @Test
+        @DisplayName("getAllAsSlice_withUnknownTotalMode_returnsBadRequest400")
+        void getAllAsSlice_withUnknownTotalMode_returnsBadRequest400() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/item/slice").param("total", "EXACT"))
+                .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(service);
+        }
+    }
+
+    // ========================================
+    // CURSOR OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Cursor Operation Tests - GET /item/cursor, GET /item/search/cursor")
+    class CursorTests {
+
+        @Test
+        @DisplayName("getAllByCursor_withCursor_returnsContentAndNextCursor")
+        void getAllByCursor_withCursor_returnsContentAndNextCursor() throws Exception {
+            // Given
+            CursorResponse<InventoryItemResponse> response =
+                new CursorResponse<>(List.of(createStandardResponse()), 1, true, "next-token");
+            when(service.findAllByCursor("token", 1)).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/item/cursor").param("cursor", "token").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(service).findAllByCursor("token", 1);
+        }
+
+        @Test
+        @DisplayName("getAllByNameByCursor_withoutCursor_usesDefaultSize")
+        void getAllByNameByCursor_withoutCursor_usesDefaultSize() throws Exception {
+            // Given
+            when(service.findAllByNameByCursor("bolt", null, 20))
+                .thenReturn(new CursorResponse<>(List.of(), 0, false, null));
+
+            // When & Then
+            mockMvc.perform(get("/item/search/cursor").param("name", "bolt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+            verify(service).findAllByNameByCursor("bolt", null, 20);
+        }
+
+        @Test
+        @DisplayName("getAllByCursor_withSizeAboveLimit_returnsBadRequest400")
+        void getAllByCursor_withSizeAboveLimit_returnsBadRequest400() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/item/cursor").param("size", "1001"))
+                .andExpect(status().isBadRequest());
+
+            verify(service, never()).findAllByCursor(any(), anyInt());
+        }
+    }
+
+    // ========================================
+    // EXPORT OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Export Operation Tests - GET /item/export")
+    class ExportTests {
+
+        private void stubExport(InventoryItemResponse... items) {
+            when(service.exportAll(any())).thenAnswer(invocation -> {
+                Consumer<InventoryItemResponse> sink = invocation.getArgument(0);
+                for (InventoryItemResponse item : items) {
+                    sink.accept(item);
+                }
+                return (long) items.length;
+            });
+        }
+
+        @Test
+        @DisplayName("export_withoutFormat_streamsNdjsonLines")
+        void export_withoutFormat_streamsNdjsonLines() throws Exception {
+            // Given
+            InventoryItemResponse other = new InventoryItemResponse(2L, "Nut M10", null, 1L,
+                new BigDecimal("0.10"), new BigDecimal("100.00"), new BigDecimal("500.00"), 0L);
+            stubExport(createStandardResponse(), other);
+
+            // When & Then
+            String body = mockMvc.perform(get("/item/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("inventory-items.ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readValue(lines.get(1), InventoryItemResponse.class)).isEqualTo(other);
+            verify(service).exportAll(any());
+        }
+
+        @Test
+        @DisplayName("export_withCsvFormat_streamsHeaderAndRows")
+        void export_withCsvFormat_streamsHeaderAndRows() throws Exception {
+            // Given
+            stubExport(createStandardResponse());
+
+            // When & Then
+            String body = mockMvc.perform(get("/item/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(lines.getFirst())
+                .isEqualTo("id,name,description,baseUnitOfMeasureId,standardCost,unitPerPurchaseUom,reorderPointQuantity,version");
+            assertThat(lines.get(1)).startsWith("1,").contains("Steel Bolt M10").endsWith(",1,2.50,10.00,50.00,0");
+        }
+    }
+
     // ========================================
     // UPDATE OPERATION TESTS
     // ========================================
@@ -667,10 +1094,11 @@ class InventoryItemControllerTest {
                 2L,
                 new BigDecimal("3.00"),
                 new BigDecimal("12.00"),
-                new BigDecimal("60.00")
+                new BigDecimal("60.00"),
+                0L
             );
 
-            when(service.update(eq(id), any(InventoryItemUpdate.class))).thenReturn(response);
+            when(service.update(eq(id), any(InventoryItemUpdate.class), isNull())).thenReturn(response);
 
             // When & Then
             mockMvc.perform(put("/item/{id}", id)
@@ -684,9 +1112,70 @@ class InventoryItemControllerTest {
                 .andExpect(jsonPath("$.baseUnitOfMeasureId").value(2L))
                 .andExpect(jsonPath("$.standardCost").value(3.00))
                 .andExpect(jsonPath("$.unitPerPurchaseUom").value(12.00))
-                .andExpect(jsonPath("$.reorderPointQuantity").value(60.00));
+                .andExpect(jsonPath("$.reorderPointQuantity").value(60.00))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+            verify(service).update(eq(id), any(InventoryItemUpdate.class), isNull());
+        }
 
-            verify(service).update(eq(id), any(InventoryItemUpdate.class));
+        @Test
+        @DisplayName("update_withIfMatch_passesVersionAndReturnsNewETag")
+        void update_withIfMatch_passesVersionAndReturnsNewETag() throws Exception {
+            // Given
+            InventoryItemResponse response = new InventoryItemResponse(1L, "Steel Bolt M10 Updated", null, 2L,
+                new BigDecimal("3.00"), new BigDecimal("12.00"), new BigDecimal("60.00"), 4L);
+            when(service.update(eq(1L), any(InventoryItemUpdate.class), eq(3L))).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(put("/item/{id}", 1L)
+                    .header(HttpHeaders.IF_MATCH, "\"3\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createStandardUpdate())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+        }
+
+        @Test
+        @DisplayName("update_withWildcardIfMatch_updatesUnconditionally")
+        void update_withWildcardIfMatch_updatesUnconditionally() throws Exception {
+            // Given
+            when(service.update(eq(1L), any(InventoryItemUpdate.class), isNull())).thenReturn(createStandardResponse());
+
+            // When & Then
+            mockMvc.perform(put("/item/{id}", 1L)
+                    .header(HttpHeaders.IF_MATCH, "*")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createStandardUpdate())))
+                .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("update_withStaleIfMatch_returnsPreconditionFailed412")
+        void update_withStaleIfMatch_returnsPreconditionFailed412() throws Exception {
+            // Given
+            when(service.update(eq(1L), any(InventoryItemUpdate.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("InventoryItem no longer has version 2"));
+
+            // When & Then
+            mockMvc.perform(put("/item/{id}", 1L)
+                    .header(HttpHeaders.IF_MATCH, "\"2\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createStandardUpdate())))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value(1007));
+        }
+
+        @Test
+        @DisplayName("update_withWeakIfMatch_returnsBadRequest400")
+        void update_withWeakIfMatch_returnsBadRequest400() throws Exception {
+            // When & Then
+            mockMvc.perform(put("/item/{id}", 1L)
+                    .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createStandardUpdate())))
+                .andExpect(status().isBadRequest());
+
+            verify(service, never()).update(any(), any(InventoryItemUpdate.class), any());
         }
 
         @Test
@@ -696,7 +1185,7 @@ class InventoryItemControllerTest {
             Long id = 999L;
             InventoryItemUpdate update = createStandardUpdate();
 
-            when(service.update(eq(id), any(InventoryItemUpdate.class)))
+            when(service.update(eq(id), any(InventoryItemUpdate.class), isNull()))
                 .thenThrow(new ResourceNotFoundException("InventoryItem with id '999' not found"));
 
             // When & Then
@@ -705,7 +1194,7 @@ class InventoryItemControllerTest {
                     .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isNotFound());
 
-            verify(service).update(eq(id), any(InventoryItemUpdate.class));
+            verify(service).update(eq(id), any(InventoryItemUpdate.class), isNull());
         }
 
         @Test
@@ -715,7 +1204,7 @@ class InventoryItemControllerTest {
             Long id = 1L;
             InventoryItemUpdate update = createStandardUpdate();
 
-            when(service.update(eq(id), any(InventoryItemUpdate.class)))
+            when(service.update(eq(id), any(InventoryItemUpdate.class), isNull()))
                 .thenThrow(new ResourceConflictException("InventoryItem with name 'Steel Bolt M10 Updated' already exists"));
 
             // When & Then
@@ -724,7 +1213,7 @@ class InventoryItemControllerTest {
                     .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isConflict());
 
-            verify(service).update(eq(id), any(InventoryItemUpdate.class));
+            verify(service).update(eq(id), any(InventoryItemUpdate.class), isNull());
         }
 
         @Test
@@ -747,7 +1236,7 @@ class InventoryItemControllerTest {
                     .content(objectMapper.writeValueAsString(invalidUpdate)))
                 .andExpect(status().isBadRequest());
 
-            verify(service, never()).update(any(), any(InventoryItemUpdate.class));
+            verify(service, never()).update(any(), any(InventoryItemUpdate.class), any());
         }
 
         @Test
@@ -763,7 +1252,7 @@ class InventoryItemControllerTest {
                     .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isBadRequest());
 
-            verify(service, never()).update(any(), any(InventoryItemUpdate.class));
+            verify(service, never()).update(any(), any(InventoryItemUpdate.class), any());
         }
 
         @Test
@@ -783,7 +1272,7 @@ class InventoryItemControllerTest {
                     .content(incompleteJson))
                 .andExpect(status().isBadRequest());
 
-            verify(service, never()).update(any(), any(InventoryItemUpdate.class));
+            verify(service, never()).update(any(), any(InventoryItemUpdate.class), any());
         }
 
         @Test
@@ -806,7 +1295,7 @@ class InventoryItemControllerTest {
                     .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isBadRequest());
 
-            verify(service, never()).update(any(), any(InventoryItemUpdate.class));
+            verify(service, never()).update(any(), any(InventoryItemUpdate.class), any());
         }
 
         @Test
@@ -816,7 +1305,7 @@ class InventoryItemControllerTest {
             Long id = 1L;
             InventoryItemUpdate update = createStandardUpdate();
 
-            when(service.update(eq(id), any(InventoryItemUpdate.class)))
+            when(service.update(eq(id), any(InventoryItemUpdate.class), isNull()))
                 .thenThrow(new ResourceNotFoundException("UOM with id '2' not found"));
 
             // When & Then
@@ -825,7 +1314,83 @@ class InventoryItemControllerTest {
                     .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isNotFound());
 
-            verify(service).update(eq(id), any(InventoryItemUpdate.class));
+            verify(service).update(eq(id), any(InventoryItemUpdate.class), isNull());
+        }
+    }
+
+    // ========================================
+    // PATCH OPERATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Patch Operation Tests - PATCH /item/{id}")
+    class PatchTests {
+
+        private static final MediaType MERGE_PATCH_JSON = MediaType.parseMediaType("application/merge-patch+json");
+
+        @Test
+        @DisplayName("patch_withMergePatch_passesDocumentAndReturnsETag")
+        void patch_withMergePatch_passesDocumentAndReturnsETag() throws Exception {
+            // Given
+            InventoryItemResponse response = new InventoryItemResponse(1L, "Steel Bolt M10", null, 1L,
+                new BigDecimal("3.25"), new BigDecimal("10.00"), new BigDecimal("50.00"), 4L);
+            when(service.patch(eq(1L), any(JsonNode.class), eq(3L))).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(patch("/item/{id}", 1L)
+                    .header(HttpHeaders.IF_MATCH, "\"3\"")
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"standardCost\":3.25,\"description\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.standardCost").value(3.25))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+            ArgumentCaptor<JsonNode> document = ArgumentCaptor.forClass(JsonNode.class);
+            verify(service).patch(eq(1L), document.capture(), eq(3L));
+            assertThat(document.getValue().get("standardCost").decimalValue()).isEqualByComparingTo("3.25");
+            assertThat(document.getValue().get("description").isNull()).isTrue();
+            assertThat(document.getValue().has("name")).isFalse();
+        }
+
+        @Test
+        @DisplayName("patch_withPlainJson_returnsUnsupportedMediaType415")
+        void patch_withPlainJson_returnsUnsupportedMediaType415() throws Exception {
+            // When & Then
+            mockMvc.perform(patch("/item/{id}", 1L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"standardCost\":3.25}"))
+                .andExpect(status().isUnsupportedMediaType());
+
+            verify(service, never()).patch(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("patch_withInvalidMergedItem_returnsBadRequest400")
+        void patch_withInvalidMergedItem_returnsBadRequest400() throws Exception {
+            // Given
+            when(service.patch(eq(1L), any(JsonNode.class), isNull()))
+                .thenThrow(new InvalidDataException("Bad request: name: must not be blank"));
+
+            // When & Then
+            mockMvc.perform(patch("/item/{id}", 1L)
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"name\":null}"))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("patch_withStaleIfMatch_returnsPreconditionFailed412")
+        void patch_withStaleIfMatch_returnsPreconditionFailed412() throws Exception {
+            // Given
+            when(service.patch(eq(1L), any(JsonNode.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("InventoryItem no longer has version 2"));
+
+            // When & Then
+            mockMvc.perform(patch("/item/{id}", 1L)
+                    .header(HttpHeaders.IF_MATCH, "\"2\"")
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"standardCost\":3.25}"))
+                .andExpect(status().isPreconditionFailed());
         }
     }
 
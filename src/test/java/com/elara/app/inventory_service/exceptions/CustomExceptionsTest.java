@@ -126,6 +126,31 @@ class CustomExceptionsTest {
         }
     }
 
+    // ========================================
+    // PRECONDITION FAILED EXCEPTION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("PreconditionFailedException")
+    class PreconditionFailedExceptionTests {
+
+        @Test
+        @DisplayName("constructor_setsPreconditionFailedErrorCode")
+        void constructor_setsPreconditionFailedErrorCode() {
+            // Given
+            String message = "InventoryItem no longer has version 3";
+
+            // When
+            PreconditionFailedException exception = new PreconditionFailedException(message);
+
+            // Then
+            assertThat(exception.getCode()).isEqualTo(ErrorCode.PRECONDITION_FAILED.getCode());
+            assertThat(exception.getValue()).isEqualTo(ErrorCode.PRECONDITION_FAILED.getValue());
+            assertThat(exception.getMessage()).isEqualTo(message);
+            assertThat(ErrorCode.fromCode(1007).getHttpStatus().value()).isEqualTo(412);
+        }
+    }
+
     // ========================================
     // INVALID DATA EXCEPTION TESTS
     // ========================================
@@ -0,0 +1,78 @@
+package com.elara.app.inventory_service.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InventoryCatalogVersion")
+class InventoryCatalogVersionTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private double incrementFailures() {
+        return meterRegistry.get(InventoryCatalogVersion.INCREMENT_FAILURES_METRIC).counter().count();
+    }
+
+    @Test
+    @DisplayName("Increment, advances the current version by one and returns it")
+    void increment_advancesCurrentVersion() {
+        // Given
+        InventoryCatalogVersion catalogVersion = new InventoryCatalogVersion(dataSource, transactionManager, meterRegistry);
+        long before = catalogVersion.current();
+
+        // When
+        OptionalLong bumped = catalogVersion.increment();
+
+        // Then
+        assertThat(bumped).hasValue(before + 1);
+        assertThat(catalogVersion.current()).isEqualTo(before + 1);
+        assertThat(incrementFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("Increment that fails, is swallowed and counted")
+    void increment_whenBumpFails_isCountedWithoutThrowing() {
+        // Given
+        PlatformTransactionManager failing = mock(PlatformTransactionManager.class);
+        when(failing.getTransaction(any())).thenThrow(new CannotCreateTransactionException("Connection refused"));
+        InventoryCatalogVersion catalogVersion = new InventoryCatalogVersion(dataSource, failing, meterRegistry);
+        long before = catalogVersion.current();
+
+        // When / Then
+        assertThatCode(() -> assertThat(catalogVersion.increment()).isEmpty()).doesNotThrowAnyException();
+        assertThat(catalogVersion.current()).isEqualTo(before);
+        assertThat(incrementFailures()).isEqualTo(1.0);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.elara.app.inventory_service.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("InventoryItemChangeLog")
+class InventoryItemChangeLogTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private InventoryItemChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        changeLog = new InventoryItemChangeLog(dataSource, true, Duration.ofDays(1));
+    }
+
+    private void insertAt(long itemId, Instant changedAt) {
+        jdbcTemplate.update("INSERT INTO inventory_item_change (item_id, changed_at) VALUES (?, ?)",
+            itemId, OffsetDateTime.ofInstant(changedAt, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("record_withIds_appendsEntriesReadableBySince")
+    void record_withIds_appendsEntriesReadableBySince() {
+        // Given
+        assertThat(changeLog.findLatest()).isNull();
+
+        // When
+        changeLog.record(List.of(1L, 2L));
+
+        // Then
+        assertThat(changeLog.findSince(Instant.EPOCH)).extracting(InventoryItemChangeLog.Change::itemId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(changeLog.findLatest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("findSince_withOlderEntries_returnsOnlyNewerOnesInOrder")
+    void findSince_withOlderEntries_returnsOnlyNewerOnesInOrder() {
+        // Given
+        Instant base = Instant.parse("2026-10-01T10:00:00Z");
+        insertAt(3L, base.plusSeconds(20));
+        insertAt(1L, base);
+        insertAt(2L, base.plusSeconds(10));
+
+        // When
+        List<InventoryItemChangeLog.Change> changes = changeLog.findSince(base);
+
+        // Then
+        assertThat(changes).extracting(InventoryItemChangeLog.Change::itemId).containsExactly(2L, 3L);
+        assertThat(changes.getLast().changedAt()).isEqualTo(base.plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("record_whenDisabled_writesNothing")
+    void record_whenDisabled_writesNothing() {
+        // Given
+        InventoryItemChangeLog disabled = new InventoryItemChangeLog(dataSource, false, Duration.ofDays(1));
+
+        // When
+        disabled.record(1L);
+
+        // Then
+        assertThat(changeLog.findSince(Instant.EPOCH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("prune_withEntriesPastRetention_deletesThem")
+    void prune_withEntriesPastRetention_deletesThem() {
+        // Given
+        Instant newest = Instant.parse("2026-10-03T10:00:00Z");
+        insertAt(1L, newest.minus(Duration.ofDays(2)));
+        insertAt(2L, newest.minus(Duration.ofHours(2)));
+        insertAt(3L, newest);
+
+        // When
+        changeLog.prune();
+
+        // Then
+        assertThat(changeLog.findSince(Instant.EPOCH)).extracting(InventoryItemChangeLog.Change::itemId).containsExactly(2L, 3L);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.elara.app.inventory_service.repository;
+
+import com.elara.app.inventory_service.model.InventoryItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs on the embedded H2 database, so both estimates take the cached exact-count path.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(InventoryItemCountEstimator.class)
+@DisplayName("InventoryItemCountEstimator")
+class InventoryItemCountEstimatorTest {
+
+    @Autowired
+    private InventoryItemCountEstimator estimator;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private void persistItem(String name) {
+        entityManager.persistAndFlush(InventoryItem.builder()
+                .name(name)
+                .baseUnitOfMeasureId(1L)
+                .standardCost(new BigDecimal("1.00"))
+                .unitPerPurchaseUom(new BigDecimal("1.00"))
+                .reorderPointQuantity(new BigDecimal("1.00"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Total estimate without table statistics, returns a cached exact count")
+    void estimateTotal_withoutStatistics_returnsCachedCount() {
+        // Given
+        persistItem("Hex Nut");
+        persistItem("Lock Washer");
+
+        // When
+        long first = estimator.estimateTotal();
+        persistItem("Spring Pin");
+        long second = estimator.estimateTotal();
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Name estimate, caches per case-insensitive search term")
+    void estimateByName_cachesPerLowerCaseTerm() {
+        // Given
+        persistItem("Hex Bolt");
+        persistItem("Carriage Bolt");
+        persistItem("Hex Nut");
+
+        // When
+        long bolts = estimator.estimateByName("bolt");
+        persistItem("Eye Bolt");
+        long cachedBolts = estimator.estimateByName("BOLT");
+        long hex = estimator.estimateByName("hex");
+
+        // Then
+        assertThat(bolts).isEqualTo(2);
+        assertThat(cachedBolts).isEqualTo(2);
+        assertThat(hex).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.elara.app.inventory_service.repository;
+
+import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.elara.app.inventory_service.mapper.InventoryItemMapper;
+import com.elara.app.inventory_service.mapper.InventoryItemMapperImpl;
+import com.elara.app.inventory_service.model.InventoryItem;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captures the SQL Hibernate sends for a patch, applied the way the service applies it: the patch merged onto the
+ * item's current values and copied back through the mapper, then flushed.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.elara.app.inventory_service.repository.InventoryItemDynamicUpdateTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+@DisplayName("InventoryItem dynamic update")
+class InventoryItemDynamicUpdateTest {
+
+    @Autowired
+    private InventoryItemRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final InventoryItemMapper mapper = new InventoryItemMapperImpl();
+
+    private Long id;
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        id = repository.saveAndFlush(InventoryItem.builder()
+            .name("Steel Bolt M10")
+            .description("Zinc plated")
+            .baseUnitOfMeasureId(1L)
+            .standardCost(new BigDecimal("2.50"))
+            .unitPerPurchaseUom(new BigDecimal("10.00"))
+            .reorderPointQuantity(new BigDecimal("50.00"))
+            .build()).getId();
+        entityManager.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    private List<String> updatedColumns() {
+        List<String> updates = RecordingStatementInspector.STATEMENTS.stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.startsWith("update inventory_item "))
+            .toList();
+        assertThat(updates).hasSize(1);
+        String assignments = updates.getFirst().substring(updates.getFirst().indexOf(" set ") + 5, updates.getFirst().indexOf(" where "));
+        return Arrays.stream(assignments.split(",")).map(assignment -> assignment.split("=")[0].strip()).toList();
+    }
+
+    @Test
+    @DisplayName("Patch of one field, updates only that column and the version")
+    void patch_withOneField_updatesOnlyThatColumnAndVersion() {
+        // Given
+        InventoryItem item = repository.findById(id).orElseThrow();
+        InventoryItemUpdate current = mapper.toUpdate(item);
+        InventoryItemUpdate merged = new InventoryItemUpdate(current.name(), current.description(),
+            current.baseUnitOfMeasureId(), new BigDecimal("3.25"), current.unitPerPurchaseUom(),
+            current.reorderPointQuantity());
+
+        // When
+        mapper.updateEntityFromDto(item, merged);
+        repository.flush();
+
+        // Then
+        assertThat(updatedColumns()).containsExactlyInAnyOrder("standard_cost", "version");
+    }
+
+    @Test
+    @DisplayName("Patch that changes nothing, sends no UPDATE")
+    void patch_withUnchangedValues_sendsNoUpdate() {
+        // Given
+        InventoryItem item = repository.findById(id).orElseThrow();
+
+        // When
+        mapper.updateEntityFromDto(item, mapper.toUpdate(item));
+        repository.flush();
+
+        // Then
+        assertThat(RecordingStatementInspector.STATEMENTS)
+            .noneMatch(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update inventory_item "));
+    }
+
+}
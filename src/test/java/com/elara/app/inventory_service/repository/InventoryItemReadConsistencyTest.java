@@ -0,0 +1,105 @@
+package com.elara.app.inventory_service.repository;
+
+import com.elara.app.inventory_service.model.InventoryItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without the test-managed transaction so every repository call gets its own persistence context, as in
+ * the service. Rows are then changed through JDBC, standing in for a write made by another instance.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InventoryItem read consistency")
+class InventoryItemReadConsistencyTest {
+
+    @Autowired
+    private InventoryItemRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    private InventoryItem saveItem(String name) {
+        return repository.save(InventoryItem.builder()
+            .name(name)
+            .baseUnitOfMeasureId(1L)
+            .standardCost(new BigDecimal("2.50"))
+            .unitPerPurchaseUom(new BigDecimal("10.00"))
+            .reorderPointQuantity(new BigDecimal("50.00"))
+            .build());
+    }
+
+    private void renameElsewhere(Long id, String name) {
+        jdbcTemplate.update("UPDATE inventory_item SET name = ?, version = version + 1 WHERE id = ?", name, id);
+    }
+
+    @Test
+    @DisplayName("Second-level and query caches, disabled without the single-node profile")
+    void sessionFactory_caches_areDisabled() {
+        // When
+        var options = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions();
+
+        // Then
+        assertThat(options.isSecondLevelCacheEnabled()).isFalse();
+        assertThat(options.isQueryCacheEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findById after a write from elsewhere, returns the new row and version")
+    void findById_afterExternalWrite_returnsCurrentRow() {
+        // Given
+        InventoryItem saved = saveItem("Steel Bolt M10");
+        repository.findById(saved.getId());
+
+        // When
+        renameElsewhere(saved.getId(), "Steel Bolt M12");
+
+        // Then
+        assertThat(repository.findById(saved.getId())).hasValueSatisfying(item -> {
+            assertThat(item.getName()).isEqualTo("Steel Bolt M12");
+            assertThat(item.getVersion()).isEqualTo(saved.getVersion() + 1);
+        });
+    }
+
+    @Test
+    @DisplayName("Page listing after a write from elsewhere, returns the new row")
+    void findAll_afterExternalWrite_returnsCurrentRows() {
+        // Given
+        InventoryItem saved = saveItem("Hex Nut M8");
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("name"));
+        repository.findAll(pageable);
+
+        // When
+        renameElsewhere(saved.getId(), "Hex Nut M6");
+
+        // Then
+        assertThat(repository.findAll(pageable).getContent())
+            .extracting(InventoryItem::getName)
+            .containsExactly("Hex Nut M6");
+    }
+
+}
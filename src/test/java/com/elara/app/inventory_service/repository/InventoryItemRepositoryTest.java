@@ -1,21 +1,31 @@
 package com.elara.app.inventory_service.repository;
 
 import com.elara.app.inventory_service.model.InventoryItem;
+import com.elara.app.inventory_service.utils.CursorToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -145,50 +155,156 @@ class InventoryItemRepositoryTest {
     // ========================================
 
     @Nested
-    @DisplayName("ExistsByNameIgnoreCase - Name Uniqueness")
-    class ExistsByNameTests {
+    @DisplayName("Case-Insensitive Unique Name Index")
+    class UniqueNameIndexTests {
 
         @Test
-        @DisplayName("Existing name with exact match, returns true")
-        void existsByNameIgnoreCase_withExactMatch_returnsTrue() {
+        @DisplayName("Name differing only by case, is rejected on insert")
+        void saveAndFlush_withCaseVariantOfExistingName_throwsDataIntegrityViolation() {
+            // Given
+            createStandardItem("Aluminum Sheet 1mm");
+            InventoryItem duplicate = InventoryItem.builder()
+                    .name("ALUMINUM SHEET 1MM")
+                    .baseUnitOfMeasureId(1L)
+                    .standardCost(new BigDecimal("25.50"))
+                    .unitPerPurchaseUom(new BigDecimal("100.00"))
+                    .reorderPointQuantity(new BigDecimal("500.00"))
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> repository.saveAndFlush(duplicate))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("Rename to another item's name in a different case, is rejected on flush")
+        void flush_withRenameToCaseVariantOfOtherName_throwsDataIntegrityViolation() {
             // Given
             createStandardItem("Paint Gallon White");
+            InventoryItem other = createStandardItem("Paint Gallon Black");
 
             // When
-            Boolean exists = repository.existsByNameIgnoreCase("Paint Gallon White");
+            other.setName("paint gallon white");
 
             // Then
-            assertThat(exists).isTrue();
+            assertThatThrownBy(() -> repository.flush())
+                    .isInstanceOf(DataIntegrityViolationException.class);
         }
 
         @Test
-        @DisplayName("Existing name with different case, returns true")
-        void existsByNameIgnoreCase_withDifferentCase_returnsTrue() {
+        @DisplayName("Rename to own name in a different case, succeeds")
+        void flush_withRenameToCaseVariantOfOwnName_succeeds() {
             // Given
-            createStandardItem("Aluminum Sheet 1mm");
+            InventoryItem item = createStandardItem("Concrete Mix 50kg");
+
+            // When
+            item.setName("CONCRETE MIX 50KG");
+            repository.flush();
+            entityManager.clear();
+
+            // Then
+            assertThat(repository.findById(item.getId()))
+                    .hasValueSatisfying(found -> assertThat(found.getName()).isEqualTo("CONCRETE MIX 50KG"));
+        }
+    }
+
+    @Nested
+    @DisplayName("FindExistingLowerCaseNames - Batch Name Uniqueness")
+    class FindExistingLowerCaseNamesTests {
+
+        @Test
+        @DisplayName("Mixed existing and new names, returns only the existing ones in lower case")
+        void findExistingLowerCaseNames_withMixedNames_returnsExistingOnly() {
+            // Given
+            createStandardItem("Copper Wire 2mm");
+            createStandardItem("Brass Fitting");
+
+            // When
+            Set<String> existing = repository.findExistingLowerCaseNames(
+                    List.of("copper wire 2mm", "brass fitting", "rubber gasket"));
+
+            // Then
+            assertThat(existing).containsExactlyInAnyOrder("copper wire 2mm", "brass fitting");
+        }
+
+        @Test
+        @DisplayName("No existing names, returns empty set")
+        void findExistingLowerCaseNames_withNoMatches_returnsEmpty() {
+            // Given
+            createStandardItem("Copper Wire 2mm");
+
+            // When
+            Set<String> existing = repository.findExistingLowerCaseNames(List.of("rubber gasket"));
+
+            // Then
+            assertThat(existing).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("StreamAllOrderedById - Export Cursor")
+    class StreamAllOrderedByIdTests {
+
+        @Test
+        @DisplayName("Stream all items, returns every item in id order")
+        void streamAllOrderedById_returnsAllItemsInIdOrder() {
+            // Given
+            InventoryItem first = createStandardItem("Zinc Plate");
+            InventoryItem second = createStandardItem("Anchor Bolt");
+            entityManager.clear();
+
+            // When
+            List<Long> ids;
+            try (Stream<InventoryItem> items = repository.streamAllOrderedById()) {
+                ids = items.map(InventoryItem::getId).toList();
+            }
+
+            // Then
+            assertThat(ids).containsExactly(first.getId(), second.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset Scrolling - Cursor Pagination")
+    class KeysetScrollTests {
+
+        private final Sort keysetSort = Sort.by("name", "id");
+
+        @Test
+        @DisplayName("Scrolling page by page, visits every item once in name order")
+        void findAllBy_scrollingForward_visitsEveryItemOnce() {
+            // Given
+            createStandardItem("Delta Washer");
+            createStandardItem("Alpha Nut");
+            createStandardItem("Charlie Gear");
+            createStandardItem("Bravo Bolt");
 
             // When
-            Boolean existsLower = repository.existsByNameIgnoreCase("aluminum sheet 1mm");
-            Boolean existsUpper = repository.existsByNameIgnoreCase("ALUMINUM SHEET 1MM");
-            Boolean existsMixed = repository.existsByNameIgnoreCase("aLuMiNuM sHeEt 1mM");
+            Window<InventoryItem> first = repository.findAllBy(ScrollPosition.keyset(), keysetSort, Limit.of(3));
+            Window<InventoryItem> second = repository.findAllBy(first.positionAt(first.size() - 1), keysetSort, Limit.of(3));
 
             // Then
-            assertThat(existsLower).isTrue();
-            assertThat(existsUpper).isTrue();
-            assertThat(existsMixed).isTrue();
+            assertThat(first.getContent()).extracting(InventoryItem::getName)
+                    .containsExactly("Alpha Nut", "Bravo Bolt", "Charlie Gear");
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.getContent()).extracting(InventoryItem::getName).containsExactly("Delta Washer");
+            assertThat(second.hasNext()).isFalse();
         }
 
         @Test
-        @DisplayName("Non-existent name, returns false")
-        void existsByNameIgnoreCase_withNonExistentName_returnsFalse() {
+        @DisplayName("Search scroll resumes after the encoded name and id")
+        void findByNameContainingIgnoreCase_withCursorPosition_resumesAfterKey() {
             // Given
-            createStandardItem("Concrete Mix 50kg");
+            InventoryItem seen = createStandardItem("Bolt A");
+            createStandardItem("bolt B");
+            createStandardItem("Nut C");
 
             // When
-            Boolean exists = repository.existsByNameIgnoreCase("Non Existent Item");
+            Window<InventoryItem> window = repository.findByNameContainingIgnoreCase(
+                    "BOLT", CursorToken.decode(CursorToken.encode(seen.getName(), seen.getId())), keysetSort, Limit.of(10));
 
             // Then
-            assertThat(exists).isFalse();
+            assertThat(window.getContent()).extracting(InventoryItem::getName).containsExactly("bolt B");
         }
     }
 
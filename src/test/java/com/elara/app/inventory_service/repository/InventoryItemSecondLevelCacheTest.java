@@ -0,0 +1,104 @@
+package com.elara.app.inventory_service.repository;
+
+import com.elara.app.inventory_service.model.InventoryItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with the single-node profile, which turns the second-level and query cache on, and without the
+ * test-managed transaction so every repository call gets its own persistence context, as in
+ * the service; otherwise the first-level cache would answer the repeated reads.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"test", "single-node"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InventoryItem second-level cache (single-node profile)")
+class InventoryItemSecondLevelCacheTest {
+
+    @Autowired
+    private InventoryItemRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private InventoryItem saveItem(String name) {
+        InventoryItem item = repository.save(InventoryItem.builder()
+            .name(name)
+            .baseUnitOfMeasureId(1L)
+            .standardCost(new BigDecimal("2.50"))
+            .unitPerPurchaseUom(new BigDecimal("10.00"))
+            .reorderPointQuantity(new BigDecimal("50.00"))
+            .build());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        return item;
+    }
+
+    @Test
+    @DisplayName("Repeated findById, loads from the database once and then from the entity cache")
+    void findById_calledRepeatedly_hitsDatabaseOnce() {
+        // Given
+        Long id = saveItem("Steel Bolt M10").getId();
+
+        // When
+        for (int call = 0; call < 3; call++) {
+            assertThat(repository.findById(id)).hasValueSatisfying(item -> assertThat(item.getName()).isEqualTo("Steel Bolt M10"));
+        }
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(InventoryItem.CACHE_REGION).getHitCount()).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics(InventoryItem.CACHE_REGION).getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Repeated page listing, served from the query cache until the table changes")
+    void findAll_calledRepeatedly_usesQueryCacheUntilWrite() {
+        // Given
+        saveItem("Hex Nut M8");
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        // When
+        repository.findAll(pageable);
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        repository.findAll(pageable);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirst);
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        // And a write invalidates the cached result
+        saveItem("Lock Washer");
+        assertThat(repository.findAll(pageable).getTotalElements()).isEqualTo(2);
+    }
+
+}
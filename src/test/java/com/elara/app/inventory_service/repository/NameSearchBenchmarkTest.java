@@ -0,0 +1,104 @@
+package com.elara.app.inventory_service.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares substring name search with and without the pg_trgm GIN index at several table sizes.
+ * Needs a PostgreSQL database and is skipped unless one is given, for example:
+ * <pre>
+ * mvn test -Dtest=NameSearchBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench \
+ *     -Dbenchmark.jdbc.username=postgres -Dbenchmark.jdbc.password=postgres
+ * </pre>
+ * It works on its own table, so it never touches inventory_item.
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+@DisplayName("Name search benchmark (PostgreSQL, pg_trgm)")
+class NameSearchBenchmarkTest {
+
+    private static final String TABLE = "inventory_item_name_benchmark";
+    // Same shape as the query Spring Data derives for findAllByNameContainingIgnoreCase
+    private static final String PAGE_QUERY =
+        "SELECT id, name FROM " + TABLE + " WHERE UPPER(name) LIKE UPPER(?) ESCAPE '\\' ORDER BY name LIMIT 20";
+    private static final String COUNT_QUERY =
+        "SELECT COUNT(*) FROM " + TABLE + " WHERE UPPER(name) LIKE UPPER(?) ESCAPE '\\'";
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 25;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void connect() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            System.getProperty("benchmark.jdbc.url"),
+            System.getProperty("benchmark.jdbc.username", "postgres"),
+            System.getProperty("benchmark.jdbc.password", "postgres"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL)");
+    }
+
+    @AfterAll
+    static void dropTable() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareSearchLatency(int rows) {
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_" + TABLE + "_trgm");
+        jdbcTemplate.execute("TRUNCATE " + TABLE);
+        jdbcTemplate.update("INSERT INTO " + TABLE + " (id, name) " +
+            "SELECT g, 'Item ' || g || ' ' || substr(md5(g::text), 1, 12) FROM generate_series(1, ?) AS g", rows);
+        jdbcTemplate.execute("ANALYZE " + TABLE);
+
+        // A selective fragment from the middle of one row's hash, and a common one matching about 10% of rows
+        String selective = "%" + jdbcTemplate.queryForObject("SELECT substr(md5('4242'), 4, 5)", String.class) + "%";
+        String common = "%9 %";
+
+        double[] sequential = {median(() -> runSearch(selective)), median(() -> runSearch(common))};
+
+        jdbcTemplate.execute("CREATE INDEX idx_" + TABLE + "_trgm ON " + TABLE + " USING gin (UPPER(name) gin_trgm_ops)");
+        jdbcTemplate.execute("ANALYZE " + TABLE);
+
+        double[] trigram = {median(() -> runSearch(selective)), median(() -> runSearch(common))};
+
+        System.out.printf("%,10d rows | selective: seq %8.2f ms, trgm %8.2f ms | common: seq %8.2f ms, trgm %8.2f ms%n",
+            rows, sequential[0], trigram[0], sequential[1], trigram[1]);
+        assertThat(trigram[0]).isPositive();
+    }
+
+    private static Long runSearch(String pattern) {
+        jdbcTemplate.queryForList(PAGE_QUERY, pattern);
+        return jdbcTemplate.queryForObject(COUNT_QUERY, Long.class, pattern);
+    }
+
+    private static double median(Supplier<Long> search) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            search.get();
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            search.get();
+            millis[run] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+}
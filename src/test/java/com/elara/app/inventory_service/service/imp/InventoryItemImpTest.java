@@ -1,35 +1,81 @@
 package com.elara.app.inventory_service.service.imp;
 
+import com.elara.app.inventory_service.cache.InventoryCatalogReplica;
+import com.elara.app.inventory_service.cache.InventoryItemCache;
+import com.elara.app.inventory_service.cache.ItemNameBloomFilter;
+import com.elara.app.inventory_service.cache.ItemNameIndex;
 import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.CursorResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResult;
 import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.dto.response.ItemNameSuggestion;
+import com.elara.app.inventory_service.dto.response.SliceResponse;
 import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.elara.app.inventory_service.exceptions.InvalidDataException;
+import com.elara.app.inventory_service.exceptions.PreconditionFailedException;
 import com.elara.app.inventory_service.exceptions.ResourceConflictException;
 import com.elara.app.inventory_service.exceptions.ResourceNotFoundException;
 import com.elara.app.inventory_service.mapper.InventoryItemMapper;
 import com.elara.app.inventory_service.model.InventoryItem;
+import com.elara.app.inventory_service.repository.InventoryCatalogVersion;
+import com.elara.app.inventory_service.repository.InventoryItemChangeLog;
+import com.elara.app.inventory_service.repository.InventoryItemCountEstimator;
 import com.elara.app.inventory_service.repository.InventoryItemRepository;
 import com.elara.app.inventory_service.service.interfaces.UomServiceClient;
+import com.elara.app.inventory_service.utils.CursorToken;
+import com.elara.app.inventory_service.utils.ErrorCode;
 import com.elara.app.inventory_service.utils.MessageService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -50,12 +96,62 @@ class InventoryItemImpTest {
     @Mock
     private UomServiceClient uomServiceClient;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private InventoryItemCountEstimator countEstimator;
+
+    @Mock
+    private ItemNameIndex nameIndex;
+
+    @Mock
+    private ItemNameBloomFilter nameFilter;
+
+    @Mock
+    private InventoryItemCache itemCache;
+
+    @Mock
+    private InventoryCatalogReplica catalogReplica;
+
+    @Mock
+    private InventoryItemChangeLog changeLog;
+
+    @Mock
+    private InventoryCatalogVersion catalogVersion;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private InventoryItemImp service;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(mock(TransactionStatus.class));
+        });
+        lenient().when(nameFilter.mightContain(anyString())).thenReturn(true);
+        lenient().when(uomServiceClient.verifyUomByIdAsync(anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+        lenient().when(repository.findVersionById(anyLong())).thenReturn(Optional.of(3L));
+        // Acts as an always-missing cache; the loader is null while a test re-stubs get() with matchers
+        lenient().when(itemCache.get(anyLong(), any())).thenAnswer(invocation -> {
+            Function<Long, InventoryItemResponse> loader = invocation.getArgument(1);
+            return loader == null ? null : loader.apply(invocation.getArgument(0));
+        });
+    }
+
     @AfterEach
     void tearDown() {
-        reset(mapper, repository, messageService, uomServiceClient);
+        reset(mapper, repository, messageService, uomServiceClient, transactionTemplate, validator, entityManager, countEstimator, nameIndex, nameFilter, itemCache,
+            catalogReplica, changeLog, catalogVersion);
     }
 
     // ========================================
@@ -93,9 +189,15 @@ class InventoryItemImpTest {
             .standardCost(new BigDecimal("2.50"))
             .unitPerPurchaseUom(new BigDecimal("10.00"))
             .reorderPointQuantity(new BigDecimal("50.00"))
+            .version(3L)
             .build();
     }
 
+    private static DataIntegrityViolationException uniqueViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+            new SQLException("duplicate key value violates unique constraint \"uk_inventory_item_name_lower\"", "23505"));
+    }
+
     private InventoryItemResponse createStandardResponse() {
         return new InventoryItemResponse(
             1L,
@@ -104,7 +206,8 @@ class InventoryItemImpTest {
             1L,
             new BigDecimal("2.50"),
             new BigDecimal("10.00"),
-            new BigDecimal("50.00")
+            new BigDecimal("50.00"),
+            0L
         );
     }
 
@@ -124,12 +227,9 @@ class InventoryItemImpTest {
             InventoryItem entity = createStandardEntity();
             InventoryItemResponse expectedResponse = createStandardResponse();
 
-            when(repository.existsByNameIgnoreCase(request.name())).thenReturn(false);
-            doNothing().when(uomServiceClient).verifyUomById(request.baseUnitOfMeasureId());
             when(mapper.toEntity(request)).thenReturn(entity);
-            when(repository.save(entity)).thenReturn(entity);
+            when(repository.saveAndFlush(entity)).thenReturn(entity);
             when(mapper.toResponse(entity)).thenReturn(expectedResponse);
-            when(messageService.getMessage(anyString(), anyString())).thenReturn("Success message");
 
             // When
             InventoryItemResponse result = service.save(request);
@@ -140,11 +240,14 @@ class InventoryItemImpTest {
             assertThat(result.name()).isEqualTo("Steel Bolt M10");
             assertThat(result.standardCost()).isEqualByComparingTo(new BigDecimal("2.50"));
 
-            verify(repository).existsByNameIgnoreCase(request.name());
-            verify(uomServiceClient).verifyUomById(request.baseUnitOfMeasureId());
+            verify(uomServiceClient).verifyUomByIdAsync(request.baseUnitOfMeasureId());
+            verify(repository).findExistingLowerCaseNames(List.of("steel bolt m10"));
             verify(mapper).toEntity(request);
-            verify(repository).save(entity);
+            verify(repository).saveAndFlush(entity);
+            verify(changeLog).record(1L);
             verify(mapper).toResponse(entity);
+            verify(catalogReplica).upsert(expectedResponse);
+            verify(nameIndex).put(1L, "Steel Bolt M10");
         }
 
         @Test
@@ -152,22 +255,41 @@ class InventoryItemImpTest {
         void save_withDuplicateName_throwsResourceConflictException() {
             // Given
             InventoryItemRequest request = createStandardRequest();
+            InventoryItem entity = createStandardEntity();
             String errorMessage = "InventoryItem with name 'Steel Bolt M10' already exists";
 
-            when(repository.existsByNameIgnoreCase(request.name())).thenReturn(true);
-            when(messageService.getMessage(anyString(), anyString(), anyString(), anyString()))
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.saveAndFlush(entity)).thenThrow(uniqueViolation());
+            when(messageService.getMessage("crud.already.exists", "InventoryItem", "name", request.name()))
                 .thenReturn(errorMessage);
-            when(messageService.getMessage(anyString(), anyString())).thenReturn("Save error");
 
             // When & Then
             assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ResourceConflictException.class)
                 .hasMessage(errorMessage);
 
-            verify(repository).existsByNameIgnoreCase(request.name());
-            verify(uomServiceClient, never()).verifyUomById(anyLong());
-            verify(mapper, never()).toEntity(any());
-            verify(repository, never()).save(any());
+            verify(uomServiceClient).verifyUomByIdAsync(request.baseUnitOfMeasureId());
+            verify(repository).saveAndFlush(entity);
+            verify(mapper, never()).toResponse(any());
+            verifyNoInteractions(nameIndex);
+        }
+
+        @Test
+        @DisplayName("save_withOtherIntegrityViolation_rethrowsDataIntegrityViolationException")
+        void save_withOtherIntegrityViolation_rethrowsDataIntegrityViolationException() {
+            // Given
+            InventoryItemRequest request = createStandardRequest();
+            InventoryItem entity = createStandardEntity();
+            DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException(
+                "not-null", new SQLException("null value in column", "23502"));
+
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.saveAndFlush(entity)).thenThrow(notNullViolation);
+
+            // When & Then
+            assertThatThrownBy(() -> service.save(request)).isSameAs(notNullViolation);
+
+            verifyNoInteractions(nameIndex);
         }
 
         @Test
@@ -177,19 +299,53 @@ class InventoryItemImpTest {
             InventoryItemRequest request = createStandardRequest();
             String errorMessage = "UOM with id '1' not found";
 
-            when(repository.existsByNameIgnoreCase(request.name())).thenReturn(false);
-            doThrow(new ResourceNotFoundException(errorMessage))
-                .when(uomServiceClient).verifyUomById(request.baseUnitOfMeasureId());
+            when(uomServiceClient.verifyUomByIdAsync(request.baseUnitOfMeasureId()))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceNotFoundException(errorMessage)));
 
             // When & Then
             assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(errorMessage);
 
-            verify(repository).existsByNameIgnoreCase(request.name());
-            verify(uomServiceClient).verifyUomById(request.baseUnitOfMeasureId());
+            verify(uomServiceClient).verifyUomByIdAsync(request.baseUnitOfMeasureId());
+            verify(transactionTemplate, never()).execute(any());
             verify(mapper, never()).toEntity(any());
-            verify(repository, never()).save(any());
+            verify(repository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("save_withTakenName_failsWithoutWaitingForUomCheck")
+        void save_withTakenName_failsWithoutWaitingForUomCheck() {
+            // Given
+            InventoryItemRequest request = createStandardRequest();
+            when(uomServiceClient.verifyUomByIdAsync(request.baseUnitOfMeasureId())).thenReturn(new CompletableFuture<>());
+            when(repository.findExistingLowerCaseNames(List.of("steel bolt m10"))).thenReturn(Set.of("steel bolt m10"));
+            when(messageService.getMessage("crud.already.exists", "InventoryItem", "name", request.name())).thenReturn("taken");
+
+            // When & Then: the UOM future never completes, so only the name check can end the call
+            assertThatThrownBy(() -> service.save(request))
+                .isInstanceOf(ResourceConflictException.class)
+                .hasMessage("taken");
+
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("save_withNameRuledOutByFilter_skipsNameQuery")
+        void save_withNameRuledOutByFilter_skipsNameQuery() {
+            // Given
+            InventoryItemRequest request = createStandardRequest();
+            InventoryItem entity = createStandardEntity();
+            when(nameFilter.mightContain("steel bolt m10")).thenReturn(false);
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.saveAndFlush(entity)).thenReturn(entity);
+            when(mapper.toResponse(entity)).thenReturn(createStandardResponse());
+
+            // When
+            service.save(request);
+
+            // Then
+            verify(repository, never()).findExistingLowerCaseNames(anyCollection());
         }
 
         @Test
@@ -199,9 +355,249 @@ class InventoryItemImpTest {
             assertThatThrownBy(() -> service.save(null))
                 .isInstanceOf(NullPointerException.class);
 
-            verify(repository, never()).existsByNameIgnoreCase(anyString());
+            verify(uomServiceClient, never()).verifyUomByIdAsync(anyLong());
+            verify(repository, never()).saveAndFlush(any());
+        }
+    }
+
+    // ========================================
+    // SAVE ALL TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Save All Operation Tests")
+    class SaveAllTests {
+
+        private InventoryItemRequest requestNamed(String name, Long uomId) {
+            return new InventoryItemRequest(
+                name,
+                "Batch row",
+                uomId,
+                new BigDecimal("1.00"),
+                new BigDecimal("1.00"),
+                new BigDecimal("1.00")
+            );
+        }
+
+        private void stubInsertEchoingNames() {
+            stubMappingEchoingNames();
+            when(repository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        }
+
+        private void stubMappingEchoingNames() {
+            when(mapper.toEntity(any(InventoryItemRequest.class))).thenAnswer(invocation -> {
+                InventoryItemRequest request = invocation.getArgument(0);
+                return InventoryItem.builder().name(request.name()).baseUnitOfMeasureId(request.baseUnitOfMeasureId()).build();
+            });
+            when(mapper.toResponse(any(InventoryItem.class))).thenAnswer(invocation -> {
+                InventoryItem entity = invocation.getArgument(0);
+                return new InventoryItemResponse(null, entity.getName(), null, entity.getBaseUnitOfMeasureId(), null, null, null, 0L);
+            });
+        }
+
+        @Test
+        @DisplayName("saveAll_withValidRows_createsAllInOneTransaction")
+        void saveAll_withValidRows_createsAllInOneTransaction() {
+            // Given
+            List<InventoryItemRequest> requests = List.of(requestNamed("Bolt", 1L), requestNamed("Nut", 1L), requestNamed("Washer", 2L));
+            when(repository.findExistingLowerCaseNames(anyCollection())).thenReturn(Set.of());
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+            stubInsertEchoingNames();
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.created()).isEqualTo(3);
+            assertThat(result.failed()).isZero();
+            assertThat(result.results()).extracting(InventoryItemBatchResult::status)
+                .containsOnly(InventoryItemBatchResult.Status.CREATED);
+            assertThat(result.results()).extracting(row -> row.item().name()).containsExactly("Bolt", "Nut", "Washer");
+
+            verify(repository, times(1)).findExistingLowerCaseNames(anyCollection());
+            verify(uomServiceClient, times(1)).verifyUomIdsAsync(anyCollection());
             verify(uomServiceClient, never()).verifyUomById(anyLong());
-            verify(repository, never()).save(any());
+            verify(transactionTemplate, times(1)).execute(any());
+            verify(repository, times(1)).saveAllAndFlush(anyList());
+        }
+
+        @Test
+        @DisplayName("saveAll_withValidRows_startsUomCheckBeforeNameQueryAndAwaitsIt")
+        void saveAll_withValidRows_startsUomCheckBeforeNameQueryAndAwaitsIt() {
+            // Given
+            List<InventoryItemRequest> requests = List.of(requestNamed("Bolt", 1L), requestNamed("Nut", 2L));
+            CompletableFuture<Set<Long>> uomCheck = new CompletableFuture<>();
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(uomCheck);
+            when(repository.findExistingLowerCaseNames(anyCollection())).thenAnswer(invocation -> {
+                assertThat(uomCheck).isNotDone();
+                uomCheck.complete(Set.of(2L));
+                return Set.of();
+            });
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("error");
+            stubInsertEchoingNames();
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.created()).isEqualTo(1);
+            assertThat(result.results().get(1).code()).isEqualTo(ErrorCode.RESOURCE_NOT_FOUND.getCode());
+            InOrder inOrder = inOrder(uomServiceClient, repository);
+            inOrder.verify(uomServiceClient).verifyUomIdsAsync(List.of(1L, 2L));
+            inOrder.verify(repository).findExistingLowerCaseNames(anyCollection());
+        }
+
+        @Test
+        @DisplayName("saveAll_withMixedFailures_reportsEachRowAndCreatesTheRest")
+        void saveAll_withMixedFailures_reportsEachRowAndCreatesTheRest() {
+            // Given
+            InventoryItemRequest invalid = requestNamed("", 1L);
+            List<InventoryItemRequest> requests = List.of(
+                requestNamed("Bolt", 1L),
+                invalid,
+                requestNamed("BOLT", 1L),
+                requestNamed("Existing", 1L),
+                requestNamed("Gear", 99L),
+                requestNamed("Nut", 1L)
+            );
+
+            @SuppressWarnings("unchecked")
+            ConstraintViolation<InventoryItemRequest> violation = mock(ConstraintViolation.class);
+            Path path = mock(Path.class);
+            when(path.toString()).thenReturn("name");
+            when(violation.getPropertyPath()).thenReturn(path);
+            when(violation.getMessage()).thenReturn("must not be blank");
+            when(validator.validate(any())).thenReturn(Set.of());
+            lenient().when(validator.validate(invalid)).thenReturn(Set.of(violation));
+
+            when(repository.findExistingLowerCaseNames(anyCollection())).thenReturn(Set.of("existing"));
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(CompletableFuture.completedFuture(Set.of(99L)));
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("error");
+            stubInsertEchoingNames();
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.total()).isEqualTo(6);
+            assertThat(result.created()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(4);
+            assertThat(result.results()).extracting(InventoryItemBatchResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+            assertThat(result.results()).extracting(InventoryItemBatchResult::code).containsExactly(
+                null,
+                ErrorCode.INVALID_DATA.getCode(),
+                ErrorCode.RESOURCE_CONFLICT.getCode(),
+                ErrorCode.RESOURCE_CONFLICT.getCode(),
+                ErrorCode.RESOURCE_NOT_FOUND.getCode(),
+                null
+            );
+
+            verify(messageService).getMessage("global.error.bad.request", "name: must not be blank");
+            verify(messageService).getMessage("crud.already.exists", "InventoryItem", "name", "BOLT");
+            verify(messageService).getMessage("crud.already.exists", "InventoryItem", "name", "Existing");
+            verify(messageService).getMessage("crud.not.found", "UOM", "id", "99");
+        }
+
+        @Test
+        @DisplayName("saveAll_withEveryRowRejected_doesNotOpenWriteTransaction")
+        void saveAll_withEveryRowRejected_doesNotOpenWriteTransaction() {
+            // Given
+            List<InventoryItemRequest> requests = List.of(requestNamed("Bolt", 1L), requestNamed("Nut", 1L));
+            when(repository.findExistingLowerCaseNames(anyCollection())).thenReturn(Set.of("bolt", "nut"));
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("error");
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.created()).isZero();
+            assertThat(result.failed()).isEqualTo(2);
+
+            verify(transactionTemplate, never()).execute(any());
+            verify(repository, never()).saveAllAndFlush(anyList());
+        }
+
+        @Test
+        @DisplayName("saveAll_withNamesRuledOutByFilter_skipsNameQuery")
+        void saveAll_withNamesRuledOutByFilter_skipsNameQuery() {
+            // Given
+            List<InventoryItemRequest> requests = List.of(requestNamed("Bolt", 1L), requestNamed("Nut", 1L));
+            when(nameFilter.mightContain(anyString())).thenReturn(false);
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+            stubInsertEchoingNames();
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.created()).isEqualTo(2);
+            verify(repository, never()).findExistingLowerCaseNames(anyCollection());
+            verify(nameFilter).recordFalsePositives(0);
+            verify(nameFilter).putAll(List.of("Bolt", "Nut"));
+        }
+
+        @Test
+        @DisplayName("saveAll_withPossiblyTakenNamesAbsentFromDatabase_recordsFalsePositives")
+        void saveAll_withPossiblyTakenNamesAbsentFromDatabase_recordsFalsePositives() {
+            // Given
+            List<InventoryItemRequest> requests = List.of(requestNamed("Bolt", 1L), requestNamed("Nut", 1L), requestNamed("Gear", 1L));
+            when(nameFilter.mightContain("bolt")).thenReturn(false);
+            when(repository.findExistingLowerCaseNames(List.of("nut", "gear"))).thenReturn(Set.of("gear"));
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("error");
+            stubInsertEchoingNames();
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.created()).isEqualTo(2);
+            assertThat(result.results().get(2).code()).isEqualTo(ErrorCode.RESOURCE_CONFLICT.getCode());
+            verify(nameFilter).recordFalsePositives(1);
+        }
+
+        @Test
+        @DisplayName("saveAll_whenFilterMissesNameCreatedElsewhere_reChecksAndRetriesOnce")
+        void saveAll_whenFilterMissesNameCreatedElsewhere_reChecksAndRetriesOnce() {
+            // Given
+            List<InventoryItemRequest> requests = List.of(requestNamed("Bolt", 1L), requestNamed("Nut", 1L));
+            when(nameFilter.mightContain(anyString())).thenReturn(false);
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("error");
+            stubMappingEchoingNames();
+            when(repository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate", new SQLException("duplicate key", "23505")))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(repository.findExistingLowerCaseNames(List.of("bolt", "nut"))).thenReturn(Set.of("bolt"));
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.created()).isEqualTo(1);
+            assertThat(result.results()).extracting(InventoryItemBatchResult::code)
+                .containsExactly(ErrorCode.RESOURCE_CONFLICT.getCode(), null);
+            verify(repository, times(2)).saveAllAndFlush(anyList());
+            verify(messageService).getMessage("crud.already.exists", "InventoryItem", "name", "Bolt");
+        }
+
+        @Test
+        @DisplayName("saveAll_withNullRow_reportsInvalidData")
+        void saveAll_withNullRow_reportsInvalidData() {
+            // Given
+            List<InventoryItemRequest> requests = new ArrayList<>();
+            requests.add(null);
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("error");
+
+            // When
+            InventoryItemBatchResponse result = service.saveAll(requests);
+
+            // Then
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(result.results().getFirst().code()).isEqualTo(ErrorCode.INVALID_DATA.getCode());
+            verify(messageService).getMessage("global.error.bad.request", "request: must not be null");
+            verify(validator, never()).validate(any());
         }
     }
 
@@ -227,18 +623,18 @@ class InventoryItemImpTest {
                 2L,
                 new BigDecimal("3.00"),
                 new BigDecimal("12.00"),
-                new BigDecimal("60.00")
+                new BigDecimal("60.00"),
+                0L
             );
 
-            when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
-            when(repository.existsByNameIgnoreCase(update.name())).thenReturn(false);
+            when(repository.findCurrentById(id)).thenReturn(Optional.of(existingEntity));
             doNothing().when(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
             doNothing().when(mapper).updateEntityFromDto(existingEntity, update);
             when(mapper.toResponse(existingEntity)).thenReturn(expectedResponse);
             when(messageService.getMessage(anyString(), anyString())).thenReturn("Update success");
 
             // When
-            InventoryItemResponse result = service.update(id, update);
+            InventoryItemResponse result = service.update(id, update, null);
 
             // Then
             assertThat(result).isNotNull();
@@ -246,16 +642,22 @@ class InventoryItemImpTest {
             assertThat(result.name()).isEqualTo("Steel Bolt M10 Updated");
             assertThat(result.standardCost()).isEqualByComparingTo(new BigDecimal("3.00"));
 
-            verify(repository).findById(id);
-            verify(repository).existsByNameIgnoreCase(update.name());
+            verify(repository).findCurrentById(id);
             verify(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
             verify(mapper).updateEntityFromDto(existingEntity, update);
+            verify(repository).flush();
             verify(mapper).toResponse(existingEntity);
+            InOrder invalidation = inOrder(itemCache, catalogReplica, nameIndex, nameFilter, catalogVersion);
+            invalidation.verify(itemCache).evict(id);
+            invalidation.verify(catalogReplica).upsert(result);
+            invalidation.verify(nameIndex).put(id, result.name());
+            invalidation.verify(nameFilter).put(result.name());
+            invalidation.verify(catalogVersion).increment();
         }
 
         @Test
-        @DisplayName("update_withSameName_updatesWithoutNameCheck")
-        void update_withSameName_updatesWithoutNameCheck() {
+        @DisplayName("update_withSameName_updatesWithoutExtraQuery")
+        void update_withSameName_updatesWithoutExtraQuery() {
             // Given
             Long id = 1L;
             InventoryItemUpdate update = new InventoryItemUpdate(
@@ -274,24 +676,25 @@ class InventoryItemImpTest {
                 2L,
                 new BigDecimal("3.00"),
                 new BigDecimal("12.00"),
-                new BigDecimal("60.00")
+                new BigDecimal("60.00"),
+                0L
             );
 
-            when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
+            when(repository.findCurrentById(id)).thenReturn(Optional.of(existingEntity));
             doNothing().when(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
             doNothing().when(mapper).updateEntityFromDto(existingEntity, update);
             when(mapper.toResponse(existingEntity)).thenReturn(expectedResponse);
             when(messageService.getMessage(anyString(), anyString())).thenReturn("Update success");
 
             // When
-            InventoryItemResponse result = service.update(id, update);
+            InventoryItemResponse result = service.update(id, update, null);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.name()).isEqualTo("Steel Bolt M10");
 
-            verify(repository).findById(id);
-            verify(repository, never()).existsByNameIgnoreCase(anyString());
+            verify(repository).findCurrentById(id);
+            verify(repository, never()).findExistingLowerCaseNames(anyCollection());
             verify(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
             verify(mapper).updateEntityFromDto(existingEntity, update);
         }
@@ -304,19 +707,18 @@ class InventoryItemImpTest {
             InventoryItemUpdate update = createStandardUpdate();
             String errorMessage = "InventoryItem with id '999' not found";
 
-            when(repository.findById(id)).thenReturn(Optional.empty());
+            when(repository.findVersionById(id)).thenReturn(Optional.empty());
             when(messageService.getMessage(anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(errorMessage);
-            when(messageService.getMessage(anyString(), anyString())).thenReturn("Update error");
 
             // When & Then
-            assertThatThrownBy(() -> service.update(id, update))
+            assertThatThrownBy(() -> service.update(id, update, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(errorMessage);
 
-            verify(repository).findById(id);
-            verify(repository, never()).existsByNameIgnoreCase(anyString());
-            verify(uomServiceClient, never()).verifyUomById(anyLong());
+            verifyNoInteractions(uomServiceClient, transactionTemplate);
+            verify(repository, never()).findCurrentById(anyLong());
+            verify(repository, never()).flush();
             verify(mapper, never()).updateEntityFromDto(any(), any());
         }
 
@@ -329,21 +731,92 @@ class InventoryItemImpTest {
             InventoryItem existingEntity = createStandardEntity();
             String errorMessage = "InventoryItem with name 'Steel Bolt M10 Updated' already exists";
 
-            when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
-            when(repository.existsByNameIgnoreCase(update.name())).thenReturn(true);
-            when(messageService.getMessage(anyString(), anyString(), anyString(), anyString()))
+            when(repository.findCurrentById(id)).thenReturn(Optional.of(existingEntity));
+            doThrow(uniqueViolation()).when(repository).flush();
+            when(messageService.getMessage("crud.already.exists", "InventoryItem", "name", update.name()))
                 .thenReturn(errorMessage);
-            when(messageService.getMessage(anyString(), anyString())).thenReturn("Update error");
 
             // When & Then
-            assertThatThrownBy(() -> service.update(id, update))
+            assertThatThrownBy(() -> service.update(id, update, null))
                 .isInstanceOf(ResourceConflictException.class)
                 .hasMessage(errorMessage);
 
-            verify(repository).findById(id);
-            verify(repository).existsByNameIgnoreCase(update.name());
-            verify(uomServiceClient, never()).verifyUomById(anyLong());
+            verify(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
+            verify(repository).findCurrentById(id);
+            verify(mapper).updateEntityFromDto(existingEntity, update);
+            verify(mapper, never()).toResponse(any());
+            verifyNoInteractions(nameIndex, itemCache);
+        }
+
+        @Test
+        @DisplayName("update_withConcurrentUpdate_throwsResourceConflictException")
+        void update_withConcurrentUpdate_throwsResourceConflictException() {
+            // Given
+            Long id = 1L;
+            InventoryItemUpdate update = createStandardUpdate();
+            InventoryItem existingEntity = createStandardEntity();
+            String errorMessage = "InventoryItem was modified concurrently";
+
+            when(repository.findCurrentById(id)).thenReturn(Optional.of(existingEntity));
+            doThrow(new ObjectOptimisticLockingFailureException(InventoryItem.class, id)).when(repository).flush();
+            when(messageService.getMessage("crud.concurrent.update", "InventoryItem", "id", "1")).thenReturn(errorMessage);
+
+            // When & Then
+            assertThatThrownBy(() -> service.update(id, update, null))
+                .isInstanceOf(ResourceConflictException.class)
+                .hasMessage(errorMessage);
+
+            verifyNoInteractions(nameIndex, itemCache, catalogReplica);
+        }
+
+        @Test
+        @DisplayName("update_withCurrentExpectedVersion_updates")
+        void update_withCurrentExpectedVersion_updates() {
+            // Given
+            InventoryItemUpdate update = createStandardUpdate();
+            InventoryItem existingEntity = createStandardEntity();
+            when(repository.findCurrentById(1L)).thenReturn(Optional.of(existingEntity));
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+
+            // When
+            service.update(1L, update, 3L);
+
+            // Then
+            verify(mapper).updateEntityFromDto(existingEntity, update);
+            verify(repository).flush();
+        }
+
+        @Test
+        @DisplayName("update_withStaleExpectedVersion_throwsPreconditionFailedException")
+        void update_withStaleExpectedVersion_throwsPreconditionFailedException() {
+            // Given
+            InventoryItemUpdate update = createStandardUpdate();
+            when(messageService.getMessage("crud.version.mismatch", "InventoryItem", "id", "1", "2")).thenReturn("stale");
+
+            // When & Then
+            assertThatThrownBy(() -> service.update(1L, update, 2L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("stale");
+
+            verifyNoInteractions(uomServiceClient, transactionTemplate);
             verify(mapper, never()).updateEntityFromDto(any(), any());
+            verify(repository, never()).flush();
+            verifyNoInteractions(changeLog, catalogVersion, itemCache);
+        }
+
+        @Test
+        @DisplayName("update_withExpectedVersionAndConcurrentUpdate_throwsPreconditionFailedException")
+        void update_withExpectedVersionAndConcurrentUpdate_throwsPreconditionFailedException() {
+            // Given
+            InventoryItemUpdate update = createStandardUpdate();
+            when(repository.findCurrentById(1L)).thenReturn(Optional.of(createStandardEntity()));
+            doThrow(new ObjectOptimisticLockingFailureException(InventoryItem.class, 1L)).when(repository).flush();
+            when(messageService.getMessage("crud.version.mismatch", "InventoryItem", "id", "1", "3")).thenReturn("stale");
+
+            // When & Then
+            assertThatThrownBy(() -> service.update(1L, update, 3L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("stale");
         }
 
         @Test
@@ -352,27 +825,242 @@ class InventoryItemImpTest {
             // Given
             Long id = 1L;
             InventoryItemUpdate update = createStandardUpdate();
-            InventoryItem existingEntity = createStandardEntity();
             String errorMessage = "UOM with id '2' not found";
 
-            when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
-            when(repository.existsByNameIgnoreCase(update.name())).thenReturn(false);
             doThrow(new ResourceNotFoundException(errorMessage))
                 .when(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
-            when(messageService.getMessage(anyString(), anyString())).thenReturn("Update error");
 
             // When & Then
-            assertThatThrownBy(() -> service.update(id, update))
+            assertThatThrownBy(() -> service.update(id, update, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(errorMessage);
 
-            verify(repository).findById(id);
-            verify(repository).existsByNameIgnoreCase(update.name());
-            verify(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
+            InOrder inOrder = inOrder(repository, uomServiceClient);
+            inOrder.verify(repository).findVersionById(id);
+            inOrder.verify(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
+            verify(transactionTemplate, never()).execute(any());
+            verify(repository, never()).findCurrentById(anyLong());
+            verify(mapper, never()).updateEntityFromDto(any(), any());
+        }
+    }
+
+    // ========================================
+    // PATCH TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Patch Operation Tests")
+    class PatchTests {
+
+        private InventoryItem existingEntity;
+
+        @BeforeEach
+        void setUp() {
+            existingEntity = createStandardEntity();
+            lenient().when(repository.findCurrentById(1L)).thenReturn(Optional.of(existingEntity));
+            lenient().when(mapper.toUpdate(any(InventoryItem.class))).thenAnswer(invocation -> {
+                InventoryItem entity = invocation.getArgument(0);
+                return new InventoryItemUpdate(entity.getName(), entity.getDescription(), entity.getBaseUnitOfMeasureId(),
+                    entity.getStandardCost(), entity.getUnitPerPurchaseUom(), entity.getReorderPointQuantity());
+            });
+        }
+
+        private JsonNode mergePatch(String json) throws Exception {
+            return objectMapper.readTree(json);
+        }
+
+        @Test
+        @DisplayName("patch_withSomeFields_mergesThemAndSkipsUomVerification")
+        void patch_withSomeFields_mergesThemAndSkipsUomVerification() throws Exception {
+            // Given
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+
+            // When
+            service.patch(1L, mergePatch("{\"standardCost\":3.25,\"description\":null}"), null);
+
+            // Then
+            ArgumentCaptor<InventoryItemUpdate> merged = ArgumentCaptor.forClass(InventoryItemUpdate.class);
+            verify(mapper).updateEntityFromDto(eq(existingEntity), merged.capture());
+            assertThat(merged.getValue().name()).isEqualTo("Steel Bolt M10");
+            assertThat(merged.getValue().description()).isNull();
+            assertThat(merged.getValue().baseUnitOfMeasureId()).isEqualTo(1L);
+            assertThat(merged.getValue().standardCost()).isEqualByComparingTo("3.25");
+            assertThat(merged.getValue().reorderPointQuantity()).isEqualByComparingTo("50.00");
+            verify(repository).flush();
+            verify(catalogVersion).increment();
+            verify(itemCache).evict(1L);
+            verifyNoInteractions(uomServiceClient);
+        }
+
+        @Test
+        @DisplayName("patch_withSuccessfulCatalogBump_advancesReplicaVersion")
+        void patch_withSuccessfulCatalogBump_advancesReplicaVersion() throws Exception {
+            // Given
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+            when(catalogVersion.increment()).thenReturn(OptionalLong.of(7L));
+
+            // When
+            service.patch(1L, mergePatch("{\"standardCost\":3.25}"), null);
+
+            // Then
+            verify(catalogReplica).advanceCatalogVersion(7L);
+        }
+
+        @Test
+        @DisplayName("patch_withFailedCatalogBump_keepsReplicaVersion")
+        void patch_withFailedCatalogBump_keepsReplicaVersion() throws Exception {
+            // Given
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+            when(catalogVersion.increment()).thenReturn(OptionalLong.empty());
+
+            // When
+            service.patch(1L, mergePatch("{\"standardCost\":3.25}"), null);
+
+            // Then
+            verify(catalogReplica, never()).advanceCatalogVersion(anyLong());
+        }
+
+        @Test
+        @DisplayName("patch_withUnchangedUom_skipsUomVerification")
+        void patch_withUnchangedUom_skipsUomVerification() throws Exception {
+            // Given
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+
+            // When
+            service.patch(1L, mergePatch("{\"baseUnitOfMeasureId\":1,\"name\":\"Steel Bolt M10 Zinc\"}"), null);
+
+            // Then
+            verify(mapper).updateEntityFromDto(eq(existingEntity), any(InventoryItemUpdate.class));
+            verifyNoInteractions(uomServiceClient);
+        }
+
+        @Test
+        @DisplayName("patch_withChangedUom_verifiesItBeforeTheTransaction")
+        void patch_withChangedUom_verifiesItBeforeTheTransaction() throws Exception {
+            // Given
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+
+            // When
+            service.patch(1L, mergePatch("{\"baseUnitOfMeasureId\":2}"), 3L);
+
+            // Then
+            InOrder inOrder = inOrder(uomServiceClient, transactionTemplate);
+            inOrder.verify(uomServiceClient).verifyUomById(2L);
+            inOrder.verify(transactionTemplate).execute(any());
+        }
+
+        @Test
+        @DisplayName("patch_withWrongValueType_throwsInvalidDataException")
+        void patch_withWrongValueType_throwsInvalidDataException() {
+            // Given
+            when(messageService.getMessage(eq("global.error.bad.request"), anyString())).thenReturn("Bad request");
+
+            // When & Then
+            assertThatThrownBy(() -> service.patch(1L, mergePatch("{\"standardCost\":\"cheap\"}"), null))
+                .isInstanceOf(InvalidDataException.class);
+
+            verifyNoInteractions(uomServiceClient);
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("patch_withNonObjectDocument_throwsInvalidDataException")
+        void patch_withNonObjectDocument_throwsInvalidDataException() {
+            // Given
+            when(messageService.getMessage("global.error.bad.request", "patch: must be a JSON object")).thenReturn("Bad request");
+
+            // When & Then
+            assertThatThrownBy(() -> service.patch(1L, mergePatch("[1, 2]"), null))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessage("Bad request");
+
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("patch_withStaleExpectedVersion_throwsPreconditionFailedException")
+        void patch_withStaleExpectedVersion_throwsPreconditionFailedException() {
+            // Given
+            when(messageService.getMessage("crud.version.mismatch", "InventoryItem", "id", "1", "2")).thenReturn("stale");
+
+            // When & Then
+            assertThatThrownBy(() -> service.patch(1L, mergePatch("{\"standardCost\":3.25}"), 2L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("stale");
+
             verify(mapper, never()).updateEntityFromDto(any(), any());
         }
     }
 
+    // ========================================
+    // TRANSACTION BOUNDARY TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Transaction Boundary Tests")
+    class TransactionBoundaryTests {
+
+        @Test
+        @DisplayName("save_withDelayedUomService_opensTransactionOnlyAfterRemoteCall")
+        void save_withDelayedUomService_opensTransactionOnlyAfterRemoteCall() {
+            // Given
+            InventoryItemRequest request = createStandardRequest();
+            InventoryItem entity = createStandardEntity();
+
+            AtomicBoolean transactionOpenedEarly = new AtomicBoolean(true);
+            when(uomServiceClient.verifyUomByIdAsync(request.baseUnitOfMeasureId())).thenReturn(CompletableFuture.runAsync(() -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                transactionOpenedEarly.set(mockingDetails(transactionTemplate).getInvocations().stream()
+                    .anyMatch(invocation -> invocation.getMethod().getName().equals("execute")));
+            }));
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.saveAndFlush(entity)).thenReturn(entity);
+            when(mapper.toResponse(entity)).thenReturn(createStandardResponse());
+
+            // When
+            service.save(request);
+
+            // Then
+            assertThat(transactionOpenedEarly).isFalse();
+            InOrder inOrder = inOrder(uomServiceClient, transactionTemplate, repository);
+            inOrder.verify(uomServiceClient).verifyUomByIdAsync(request.baseUnitOfMeasureId());
+            inOrder.verify(repository).findExistingLowerCaseNames(anyCollection());
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(repository).saveAndFlush(entity);
+        }
+
+        @Test
+        @DisplayName("update_withDelayedUomService_opensTransactionOnlyAfterRemoteCall")
+        void update_withDelayedUomService_opensTransactionOnlyAfterRemoteCall() {
+            // Given
+            Long id = 1L;
+            InventoryItemUpdate update = createStandardUpdate();
+            InventoryItem existingEntity = createStandardEntity();
+
+            doAnswer(invocation -> {
+                Thread.sleep(50);
+                verifyNoInteractions(transactionTemplate);
+                verify(repository, never()).findCurrentById(anyLong());
+                return null;
+            }).when(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
+            when(repository.findCurrentById(id)).thenReturn(Optional.of(existingEntity));
+            when(mapper.toResponse(existingEntity)).thenReturn(createStandardResponse());
+
+            // When
+            service.update(id, update, null);
+
+            // Then
+            InOrder inOrder = inOrder(uomServiceClient, transactionTemplate, repository);
+            inOrder.verify(uomServiceClient).verifyUomById(update.baseUnitOfMeasureId());
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(repository).findCurrentById(id);
+        }
+    }
+
     // ========================================
     // DELETE TESTS
     // ========================================
@@ -393,6 +1081,10 @@ class InventoryItemImpTest {
 
             // Then
             verify(repository).deleteByIdReturningCount(id);
+            verify(changeLog).record(id);
+            verify(itemCache).evict(id);
+            verify(catalogReplica).remove(id);
+            verify(nameIndex).remove(id);
         }
 
         @Test
@@ -412,6 +1104,7 @@ class InventoryItemImpTest {
                 .hasMessage(errorMessage);
 
             verify(repository).deleteByIdReturningCount(id);
+            verifyNoInteractions(nameIndex, itemCache, catalogReplica, changeLog, catalogVersion);
         }
     }
 
@@ -467,6 +1160,127 @@ class InventoryItemImpTest {
             verify(repository).findById(id);
             verify(mapper, never()).toResponse(any());
         }
+
+        @Test
+        @DisplayName("findById_withCachedItem_returnsItWithoutQuery")
+        void findById_withCachedItem_returnsItWithoutQuery() {
+            // Given
+            InventoryItemResponse cached = createStandardResponse();
+            when(itemCache.get(eq(1L), any())).thenReturn(cached);
+
+            // When
+            InventoryItemResponse result = service.findById(1L);
+
+            // Then
+            assertThat(result).isSameAs(cached);
+            verifyNoInteractions(repository, mapper);
+        }
+
+        @Test
+        @DisplayName("findById_withReplicaReady_servesFromReplica")
+        void findById_withReplicaReady_servesFromReplica() {
+            // Given
+            InventoryItemResponse replicated = createStandardResponse();
+            when(catalogReplica.isReady()).thenReturn(true);
+            when(catalogReplica.findById(1L)).thenReturn(replicated);
+
+            // When
+            InventoryItemResponse result = service.findById(1L);
+
+            // Then
+            assertThat(result).isSameAs(replicated);
+            verifyNoInteractions(repository, itemCache);
+        }
+
+        @Test
+        @DisplayName("findById_withReplicaMiss_fallsBackToDatabase")
+        void findById_withReplicaMiss_fallsBackToDatabase() {
+            // Given: created on another instance, not yet polled into this replica
+            InventoryItem entity = createStandardEntity();
+            InventoryItemResponse response = createStandardResponse();
+            when(catalogReplica.isReady()).thenReturn(true);
+            when(repository.findById(1L)).thenReturn(Optional.of(entity));
+            when(mapper.toResponse(entity)).thenReturn(response);
+
+            // When
+            InventoryItemResponse result = service.findById(1L);
+
+            // Then
+            assertThat(result).isSameAs(response);
+            verify(catalogReplica).findById(1L);
+            verify(itemCache).get(eq(1L), any());
+        }
+
+        @Test
+        @DisplayName("findById_withReplicaReadyAndUnknownId_throwsResourceNotFoundException")
+        void findById_withReplicaReadyAndUnknownId_throwsResourceNotFoundException() {
+            // Given
+            when(catalogReplica.isReady()).thenReturn(true);
+            when(repository.findById(999L)).thenReturn(Optional.empty());
+            when(messageService.getMessage("crud.not.found", "InventoryItem", "id", "999")).thenReturn("not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.findById(999L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("not found");
+        }
+
+        @Test
+        @DisplayName("findVersionById_withReplicaMiss_readsVersionColumn")
+        void findVersionById_withReplicaMiss_readsVersionColumn() {
+            // Given
+            when(catalogReplica.isReady()).thenReturn(true);
+            when(repository.findVersionById(1L)).thenReturn(Optional.of(0L));
+
+            // When & Then
+            assertThat(service.findVersionById(1L)).isZero();
+        }
+
+        @Test
+        @DisplayName("findVersionById_withExistingId_readsOnlyVersion")
+        void findVersionById_withExistingId_readsOnlyVersion() {
+            // Given
+            when(repository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+            // When & Then
+            assertThat(service.findVersionById(1L)).isEqualTo(4L);
+            verify(repository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("findVersionById_withNonExistentId_throwsResourceNotFoundException")
+        void findVersionById_withNonExistentId_throwsResourceNotFoundException() {
+            // Given
+            when(repository.findVersionById(999L)).thenReturn(Optional.empty());
+            when(messageService.getMessage("crud.not.found", "InventoryItem", "id", "999")).thenReturn("not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.findVersionById(999L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("not found");
+        }
+
+        @Test
+        @DisplayName("findCatalogVersion_withReplicaReady_usesReplicaVersion")
+        void findCatalogVersion_withReplicaReady_usesReplicaVersion() {
+            // Given
+            when(catalogReplica.isReady()).thenReturn(true);
+            when(catalogReplica.catalogVersion()).thenReturn(9L);
+
+            // When & Then
+            assertThat(service.findCatalogVersion()).isEqualTo(9L);
+            verifyNoInteractions(catalogVersion);
+        }
+
+        @Test
+        @DisplayName("findCatalogVersion_withoutReplica_readsCounter")
+        void findCatalogVersion_withoutReplica_readsCounter() {
+            // Given
+            when(catalogVersion.current()).thenReturn(12L);
+
+            // When & Then
+            assertThat(service.findCatalogVersion()).isEqualTo(12L);
+        }
     }
 
     // ========================================
@@ -477,6 +1291,22 @@ class InventoryItemImpTest {
     @DisplayName("Find All Operation Tests")
     class FindAllTests {
 
+        @Test
+        @DisplayName("findAll_withReplicaPage_skipsRepository")
+        void findAll_withReplicaPage_skipsRepository() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<InventoryItemResponse> replicated = new PageImpl<>(List.of(createStandardResponse()), pageable, 1);
+            when(catalogReplica.findAll(pageable)).thenReturn(Optional.of(replicated));
+
+            // When
+            Page<InventoryItemResponse> result = service.findAll(pageable);
+
+            // Then
+            assertThat(result).isSameAs(replicated);
+            verifyNoInteractions(repository);
+        }
+
         @Test
         @DisplayName("findAll_withData_returnsPagedResponse")
         void findAll_withData_returnsPagedResponse() {
@@ -501,7 +1331,8 @@ class InventoryItemImpTest {
                 2L,
                 new BigDecimal("5.75"),
                 new BigDecimal("100.00"),
-                new BigDecimal("200.00")
+                new BigDecimal("200.00"),
+                0L
             );
 
             Page<InventoryItem> entityPage = new PageImpl<>(List.of(entity1, entity2), pageable, 2);
@@ -579,7 +1410,8 @@ class InventoryItemImpTest {
                 1L,
                 new BigDecimal("3.25"),
                 new BigDecimal("8.00"),
-                new BigDecimal("40.00")
+                new BigDecimal("40.00"),
+                0L
             );
 
             Page<InventoryItem> entityPage = new PageImpl<>(List.of(entity1, entity2), pageable, 2);
@@ -650,4 +1482,222 @@ class InventoryItemImpTest {
             verify(mapper).toResponse(entity);
         }
     }
+
+    // ========================================
+    // SLICE TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Slice Operation Tests")
+    class SliceTests {
+
+        @Test
+        @DisplayName("findAllAsSlice_withTotalNone_skipsEveryCount")
+        void findAllAsSlice_withTotalNone_skipsEveryCount() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 1);
+            InventoryItem entity = createStandardEntity();
+            when(repository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(entity), pageable, true));
+            when(mapper.toResponse(entity)).thenReturn(createStandardResponse());
+
+            // When
+            SliceResponse<InventoryItemResponse> result = service.findAllAsSlice(pageable, SliceResponse.Total.NONE);
+
+            // Then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalElements()).isNull();
+            verify(repository, never()).count();
+            verifyNoInteractions(countEstimator);
+        }
+
+        @Test
+        @DisplayName("findAllAsSlice_withTotalEstimated_usesEstimator")
+        void findAllAsSlice_withTotalEstimated_usesEstimator() {
+            // Given
+            Pageable pageable = PageRequest.of(2, 10);
+            when(repository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+            when(countEstimator.estimateTotal()).thenReturn(12_000L);
+
+            // When
+            SliceResponse<InventoryItemResponse> result = service.findAllAsSlice(pageable, SliceResponse.Total.ESTIMATED);
+
+            // Then
+            assertThat(result.page()).isEqualTo(2);
+            assertThat(result.size()).isEqualTo(10);
+            assertThat(result.totalElements()).isEqualTo(12_000L);
+            assertThat(result.total()).isEqualTo(SliceResponse.Total.ESTIMATED);
+        }
+
+        @Test
+        @DisplayName("findAllByNameAsSlice_withTotalEstimated_usesCachedSearchCount")
+        void findAllByNameAsSlice_withTotalEstimated_usesCachedSearchCount() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 20);
+            when(repository.findSliceByNameContainingIgnoreCase("bolt", pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+            when(countEstimator.estimateByName("bolt")).thenReturn(3L);
+
+            // When
+            SliceResponse<InventoryItemResponse> result = service.findAllByNameAsSlice("bolt", pageable, SliceResponse.Total.ESTIMATED);
+
+            // Then
+            assertThat(result.totalElements()).isEqualTo(3L);
+            verify(repository, never()).findAllByNameContainingIgnoreCase(anyString(), any(Pageable.class));
+        }
+    }
+
+    // ========================================
+    // CURSOR TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Cursor Pagination Tests")
+    class CursorTests {
+
+        @Test
+        @DisplayName("findAllByCursor_withoutCursor_startsAtFirstRowAndReturnsNextCursor")
+        void findAllByCursor_withoutCursor_startsAtFirstRowAndReturnsNextCursor() {
+            // Given
+            InventoryItem entity = createStandardEntity();
+            Window<InventoryItem> window = Window.from(List.of(entity), ScrollPosition::offset, true);
+            when(repository.findAllBy(eq(ScrollPosition.keyset()), any(Sort.class), eq(Limit.of(1)))).thenReturn(window);
+            when(mapper.toResponse(entity)).thenReturn(createStandardResponse());
+
+            // When
+            CursorResponse<InventoryItemResponse> result = service.findAllByCursor(null, 1);
+
+            // Then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo(CursorToken.encode("Steel Bolt M10", 1L));
+        }
+
+        @Test
+        @DisplayName("findAllByNameByCursor_withCursor_seeksPastEncodedKeyAndEndsOnLastPage")
+        void findAllByNameByCursor_withCursor_seeksPastEncodedKeyAndEndsOnLastPage() {
+            // Given
+            String cursor = CursorToken.encode("Steel Bolt M10", 1L);
+            Window<InventoryItem> lastWindow = Window.from(List.of(), ScrollPosition::offset, false);
+            when(repository.findByNameContainingIgnoreCase(eq("bolt"), any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(lastWindow);
+
+            // When
+            CursorResponse<InventoryItemResponse> result = service.findAllByNameByCursor("bolt", cursor, 20);
+
+            // Then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            verify(repository).findByNameContainingIgnoreCase("bolt", CursorToken.decode(cursor), Sort.by("name", "id"), Limit.of(20));
+        }
+
+        @Test
+        @DisplayName("findAllByCursor_withMalformedCursor_throwsInvalidDataException")
+        void findAllByCursor_withMalformedCursor_throwsInvalidDataException() {
+            // Given
+            when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("Invalid request: cursor");
+
+            // When & Then
+            assertThatThrownBy(() -> service.findAllByCursor("%%%", 20))
+                .isInstanceOf(InvalidDataException.class);
+            verifyNoInteractions(repository);
+        }
+    }
+
+    // ========================================
+    // AUTOCOMPLETE TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Autocomplete Operation Tests")
+    class AutocompleteTests {
+
+        @Test
+        @DisplayName("autocomplete_readsFromNameIndexOnly")
+        void autocomplete_readsFromNameIndexOnly() {
+            // Given
+            List<ItemNameSuggestion> suggestions = List.of(new ItemNameSuggestion(1L, "Steel Bolt M10"));
+            when(nameIndex.autocomplete("bol", 10)).thenReturn(suggestions);
+
+            // When
+            List<ItemNameSuggestion> result = service.autocomplete("bol", 10);
+
+            // Then
+            assertThat(result).isEqualTo(suggestions);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("saveAll_withCreatedRows_addsThemToNameIndex")
+        void saveAll_withCreatedRows_addsThemToNameIndex() {
+            // Given
+            InventoryItemRequest request = createStandardRequest();
+            InventoryItem entity = createStandardEntity();
+            when(repository.findExistingLowerCaseNames(anyCollection())).thenReturn(Set.of());
+            when(uomServiceClient.verifyUomIdsAsync(anyCollection())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.saveAllAndFlush(anyList())).thenReturn(List.of(entity));
+            when(mapper.toResponse(entity)).thenReturn(createStandardResponse());
+
+            // When
+            service.saveAll(List.of(request));
+
+            // Then
+            verify(nameIndex).putAll(List.of(new ItemNameSuggestion(1L, "Steel Bolt M10")));
+        }
+    }
+
+    // ========================================
+    // EXPORT TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Export All Operation Tests")
+    class ExportAllTests {
+
+        @Test
+        @DisplayName("exportAll_withItems_passesEachToSinkAndDetachesIt")
+        void exportAll_withItems_passesEachToSinkAndDetachesIt() {
+            // Given
+            InventoryItem entity = createStandardEntity();
+            InventoryItem other = InventoryItem.builder().id(2L).name("Nut M10").build();
+            InventoryItemResponse response = createStandardResponse();
+            InventoryItemResponse otherResponse = new InventoryItemResponse(2L, "Nut M10", null, null, null, null, null, 0L);
+            AtomicBoolean closed = new AtomicBoolean();
+
+            when(repository.streamAllOrderedById()).thenReturn(Stream.of(entity, other).onClose(() -> closed.set(true)));
+            when(mapper.toResponse(entity)).thenReturn(response);
+            when(mapper.toResponse(other)).thenReturn(otherResponse);
+            List<InventoryItemResponse> sink = new ArrayList<>();
+
+            // When
+            long exported = service.exportAll(sink::add);
+
+            // Then
+            assertThat(exported).isEqualTo(2);
+            assertThat(sink).containsExactly(response, otherResponse);
+            assertThat(closed).isTrue();
+            InOrder inOrder = inOrder(mapper, entityManager);
+            inOrder.verify(mapper).toResponse(entity);
+            inOrder.verify(entityManager).detach(entity);
+            inOrder.verify(mapper).toResponse(other);
+            inOrder.verify(entityManager).detach(other);
+        }
+
+        @Test
+        @DisplayName("exportAll_whenSinkFails_closesCursor")
+        void exportAll_whenSinkFails_closesCursor() {
+            // Given
+            InventoryItem entity = createStandardEntity();
+            AtomicBoolean closed = new AtomicBoolean();
+            when(repository.streamAllOrderedById()).thenReturn(Stream.of(entity).onClose(() -> closed.set(true)));
+            when(mapper.toResponse(entity)).thenReturn(createStandardResponse());
+
+            // When & Then
+            assertThatThrownBy(() -> service.exportAll(item -> {
+                throw new IllegalStateException("client disconnected");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(closed).isTrue();
+        }
+    }
 }
@@ -0,0 +1,257 @@
+package com.elara.app.inventory_service.service.imp;
+
+import com.elara.app.inventory_service.cache.InventoryCatalogReplica;
+import com.elara.app.inventory_service.cache.InventoryItemCache;
+import com.elara.app.inventory_service.cache.ItemNameBloomFilter;
+import com.elara.app.inventory_service.cache.ItemNameIndex;
+import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.InventoryItemResponse;
+import com.elara.app.inventory_service.dto.update.InventoryItemUpdate;
+import com.elara.app.inventory_service.exceptions.PreconditionFailedException;
+import com.elara.app.inventory_service.exceptions.ResourceConflictException;
+import com.elara.app.inventory_service.mapper.InventoryItemMapperImpl;
+import com.elara.app.inventory_service.model.InventoryItem;
+import com.elara.app.inventory_service.repository.InventoryCatalogVersion;
+import com.elara.app.inventory_service.repository.InventoryItemChangeLog;
+import com.elara.app.inventory_service.repository.InventoryItemCountEstimator;
+import com.elara.app.inventory_service.repository.InventoryItemRepository;
+import com.elara.app.inventory_service.service.interfaces.UomServiceClient;
+import com.elara.app.inventory_service.utils.ErrorCode;
+import com.elara.app.inventory_service.utils.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Runs the write path against a real transaction manager while the UOM stub is delayed,
+ * checking that no transaction, connection or entity manager is bound when the remote call starts,
+ * and that unique index violations surface from that transaction as conflicts.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, MessageSourceAutoConfiguration.class})
+@Import({InventoryItemImp.class, InventoryItemMapperImpl.class, MessageService.class,
+    InventoryItemCountEstimator.class, ItemNameIndex.class, ItemNameBloomFilter.class,
+    InventoryItemCache.class, InventoryCatalogReplica.class, InventoryItemChangeLog.class, InventoryCatalogVersion.class,
+    SimpleMeterRegistry.class, LocalValidatorFactoryBean.class})
+@DisplayName("InventoryItemImp Transaction Boundary Tests")
+class InventoryItemImpTransactionBoundaryTest {
+
+    private static final long UOM_DELAY_MS = 200;
+
+    @Autowired
+    private InventoryItemImp service;
+
+    @Autowired
+    private InventoryItemRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private InventoryCatalogVersion catalogVersion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ItemNameBloomFilter nameFilter;
+
+    @MockitoBean
+    private UomServiceClient uomServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        when(uomServiceClient.verifyUomByIdAsync(anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("save_withDelayedUomService_holdsNoConnectionDuringRemoteCall")
+    void save_withDelayedUomService_holdsNoConnectionDuringRemoteCall() {
+        // Given
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicBoolean connectionBound = new AtomicBoolean(true);
+        AtomicBoolean entityManagerBound = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            connectionBound.set(TransactionSynchronizationManager.hasResource(dataSource));
+            entityManagerBound.set(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(UOM_DELAY_MS, TimeUnit.MILLISECONDS));
+        }).when(uomServiceClient).verifyUomByIdAsync(anyLong());
+
+        InventoryItemRequest request = new InventoryItemRequest(
+            "Steel Bolt M10",
+            "High-strength steel bolt, M10 thread",
+            1L,
+            new BigDecimal("2.50"),
+            new BigDecimal("10.00"),
+            new BigDecimal("50.00")
+        );
+
+        // When
+        long start = System.nanoTime();
+        InventoryItemResponse response = service.save(request);
+
+        // Then
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(UOM_DELAY_MS));
+        assertThat(transactionActive).isFalse();
+        assertThat(connectionBound).isFalse();
+        assertThat(entityManagerBound).isFalse();
+        assertThat(repository.findById(response.id())).isPresent();
+    }
+
+    @Test
+    @DisplayName("save_withCaseVariantOfExistingName_throwsResourceConflictException")
+    void save_withCaseVariantOfExistingName_throwsResourceConflictException() {
+        // Given
+        service.save(new InventoryItemRequest(
+            "Steel Bolt M10", null, 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00")));
+        InventoryItemRequest duplicate = new InventoryItemRequest(
+            "STEEL BOLT m10", null, 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.save(duplicate))
+            .isInstanceOf(ResourceConflictException.class)
+            .hasFieldOrPropertyWithValue("value", ErrorCode.RESOURCE_CONFLICT.getValue())
+            .hasMessage("InventoryItem already exists, when: \"name = STEEL BOLT m10\".");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("save_withNameUnknownToFilter_mapsUniqueViolationToResourceConflictException")
+    void save_withNameUnknownToFilter_mapsUniqueViolationToResourceConflictException() {
+        // Given: the row is written behind the filter's back, as by another instance, so only the index can catch it
+        nameFilter.rebuild();
+        repository.saveAndFlush(InventoryItem.builder()
+            .name("Steel Bolt M10")
+            .baseUnitOfMeasureId(1L)
+            .standardCost(new BigDecimal("2.50"))
+            .unitPerPurchaseUom(new BigDecimal("10.00"))
+            .reorderPointQuantity(new BigDecimal("50.00"))
+            .build());
+        InventoryItemRequest duplicate = new InventoryItemRequest(
+            "STEEL BOLT m10", null, 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00"));
+
+        // When & Then
+        assertThat(nameFilter.mightContain("STEEL BOLT m10")).isFalse();
+        assertThatThrownBy(() -> service.save(duplicate))
+            .isInstanceOf(ResourceConflictException.class)
+            .hasFieldOrPropertyWithValue("value", ErrorCode.RESOURCE_CONFLICT.getValue())
+            .hasMessage("InventoryItem already exists, when: \"name = STEEL BOLT m10\".");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("update_afterSave_bumpsItemAndCatalogVersions")
+    void update_afterSave_bumpsItemAndCatalogVersions() {
+        // Given
+        long catalogBefore = catalogVersion.current();
+        InventoryItemResponse created = service.save(new InventoryItemRequest(
+            "Steel Bolt M10", null, 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00")));
+
+        // When
+        InventoryItemResponse updated = service.update(created.id(), new InventoryItemUpdate(
+            "Steel Bolt M10", "Zinc plated", 1L, new BigDecimal("2.75"), new BigDecimal("10.00"), new BigDecimal("50.00")), 0L);
+
+        // Then
+        assertThat(created.version()).isZero();
+        assertThat(updated.version()).isEqualTo(1L);
+        assertThat(service.findVersionById(created.id())).isEqualTo(1L);
+        assertThat(catalogVersion.current()).isEqualTo(catalogBefore + 2);
+    }
+
+    @Test
+    @DisplayName("deleteById_afterSave_bumpsCatalogVersionOnceCommitted")
+    void deleteById_afterSave_bumpsCatalogVersionOnceCommitted() {
+        // Given
+        InventoryItemResponse created = service.save(new InventoryItemRequest(
+            "Steel Bolt M10", null, 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00")));
+        long catalogBefore = catalogVersion.current();
+
+        // When: the bump runs from afterCommit, where the delete transaction is still bound to the thread
+        service.deleteById(created.id());
+
+        // Then
+        assertThat(repository.existsById(created.id())).isFalse();
+        assertThat(catalogVersion.current()).isEqualTo(catalogBefore + 1);
+    }
+
+    @Test
+    @DisplayName("update_withStaleExpectedVersion_throwsPreconditionFailedAndKeepsRow")
+    void update_withStaleExpectedVersion_throwsPreconditionFailedAndKeepsRow() {
+        // Given
+        InventoryItemResponse created = service.save(new InventoryItemRequest(
+            "Steel Bolt M10", null, 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00")));
+        InventoryItemUpdate update = new InventoryItemUpdate(
+            "Steel Bolt M10", "Zinc plated", 1L, new BigDecimal("2.75"), new BigDecimal("10.00"), new BigDecimal("50.00"));
+        service.update(created.id(), update, 0L);
+
+        // When & Then: a second writer still holding version 0
+        assertThatThrownBy(() -> service.update(created.id(), update, 0L))
+            .isInstanceOf(PreconditionFailedException.class)
+            .hasFieldOrPropertyWithValue("value", ErrorCode.PRECONDITION_FAILED.getValue())
+            .hasMessageContaining("id = " + created.id());
+        assertThat(service.findVersionById(created.id())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("patch_withSomeFields_keepsTheOthersAndSkipsUnchangedUom")
+    void patch_withSomeFields_keepsTheOthersAndSkipsUnchangedUom() throws Exception {
+        // Given
+        InventoryItemResponse created = service.save(new InventoryItemRequest(
+            "Steel Bolt M10", "Zinc plated", 1L, new BigDecimal("2.50"), new BigDecimal("10.00"), new BigDecimal("50.00")));
+        clearInvocations(uomServiceClient);
+
+        // When
+        InventoryItemResponse patched = service.patch(created.id(),
+            objectMapper.readTree("{\"standardCost\":2.75,\"description\":null,\"baseUnitOfMeasureId\":1}"), 0L);
+
+        // Then
+        assertThat(patched.version()).isEqualTo(1L);
+        assertThat(patched.standardCost()).isEqualByComparingTo("2.75");
+        assertThat(patched.description()).isNull();
+        assertThat(patched.name()).isEqualTo("Steel Bolt M10");
+        assertThat(patched.reorderPointQuantity()).isEqualByComparingTo("50.00");
+        verifyNoInteractions(uomServiceClient);
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.elara.app.inventory_service.service.imp;
+
+import com.elara.app.inventory_service.dto.request.InventoryItemRequest;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResponse;
+import com.elara.app.inventory_service.dto.response.InventoryItemBatchResult;
+import com.elara.app.inventory_service.dto.response.InventoryItemImportProgress;
+import com.elara.app.inventory_service.service.interfaces.InventoryItemImportService.Format;
+import com.elara.app.inventory_service.service.interfaces.InventoryItemService;
+import com.elara.app.inventory_service.utils.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryItemImportImp Service Tests")
+class InventoryItemImportImpTest {
+
+    @Mock
+    private InventoryItemService inventoryItemService;
+
+    @Mock
+    private MessageService messageService;
+
+    private InventoryItemImportImp importService;
+
+    private final List<List<String>> committedChunks = new ArrayList<>();
+    private final List<InventoryItemImportProgress> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importService = new InventoryItemImportImp(inventoryItemService, messageService, new ObjectMapper());
+        lenient().when(messageService.getMessage(anyString(), any(Object[].class))).thenReturn("message");
+        lenient().when(inventoryItemService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<InventoryItemRequest> chunk = invocation.getArgument(0);
+            committedChunks.add(chunk.stream().map(InventoryItemRequest::name).toList());
+            List<InventoryItemBatchResult> results = IntStream.range(0, chunk.size())
+                .mapToObj(index -> new InventoryItemBatchResult(index, InventoryItemBatchResult.Status.CREATED, null, null, null, null))
+                .toList();
+            return new InventoryItemBatchResponse(chunk.size(), chunk.size(), 0, results);
+        });
+    }
+
+    // ========================================
+    // HELPER METHODS
+    // ========================================
+
+    private static InputStream csv(int rows) {
+        String body = "name,description,baseUnitOfMeasureId,standardCost,unitPerPurchaseUom,reorderPointQuantity\n" +
+            IntStream.range(0, rows)
+                .mapToObj(row -> "Item " + row + ",,1,2.50,10,50")
+                .collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String ndjsonRow(String name) {
+        return "{\"name\":\"" + name + "\",\"baseUnitOfMeasureId\":1,\"standardCost\":2.5," +
+            "\"unitPerPurchaseUom\":10,\"reorderPointQuantity\":50}";
+    }
+
+    // ========================================
+    // CHUNKING TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Chunking Tests")
+    class ChunkingTests {
+
+        @Test
+        @DisplayName("importItems_withCsv_commitsFixedSizeChunksAndReportsProgress")
+        void importItems_withCsv_commitsFixedSizeChunksAndReportsProgress() {
+            // When
+            InventoryItemImportProgress result = importService.importItems(csv(7), Format.CSV, 3, 0, events::add);
+
+            // Then
+            assertThat(committedChunks).extracting(List::size).containsExactly(3, 3, 1);
+            assertThat(committedChunks.getFirst()).containsExactly("Item 0", "Item 1", "Item 2");
+            assertThat(events).extracting(InventoryItemImportProgress::status).containsExactly(
+                InventoryItemImportProgress.Status.IN_PROGRESS,
+                InventoryItemImportProgress.Status.IN_PROGRESS,
+                InventoryItemImportProgress.Status.IN_PROGRESS,
+                InventoryItemImportProgress.Status.COMPLETED
+            );
+            assertThat(events).extracting(InventoryItemImportProgress::nextRow).containsExactly(3, 6, 7, 7);
+            assertThat(result.created()).isEqualTo(7);
+            assertThat(result.chunk()).isEqualTo(3);
+            verify(inventoryItemService, times(3)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("importItems_withCsvValues_mapsColumnsAndBlankCellsAsNull")
+        void importItems_withCsvValues_mapsColumnsAndBlankCellsAsNull() {
+            // Given
+            List<InventoryItemRequest> captured = new ArrayList<>();
+            when(inventoryItemService.saveAll(anyList())).thenAnswer(invocation -> {
+                captured.addAll(invocation.getArgument(0));
+                return new InventoryItemBatchResponse(1, 1, 0, List.of());
+            });
+
+            // When
+            importService.importItems(csv(1), Format.CSV, 10, 0, events::add);
+
+            // Then
+            assertThat(captured).containsExactly(new InventoryItemRequest(
+                "Item 0", null, 1L, new BigDecimal("2.50"), new BigDecimal("10"), new BigDecimal("50")));
+        }
+
+        @Test
+        @DisplayName("importItems_withNdjson_reportsFailedRowsWithAbsoluteIndex")
+        void importItems_withNdjson_reportsFailedRowsWithAbsoluteIndex() {
+            // Given
+            when(inventoryItemService.saveAll(anyList()))
+                .thenReturn(new InventoryItemBatchResponse(2, 2, 0, List.of()))
+                .thenReturn(new InventoryItemBatchResponse(1, 0, 1, List.of(
+                    new InventoryItemBatchResult(0, InventoryItemBatchResult.Status.FAILED, null, 1003, "RESOURCE_CONFLICT", "exists"))));
+
+            // When
+            InventoryItemImportProgress result = importService.importItems(
+                ndjson(ndjsonRow("Bolt"), ndjsonRow("Nut"), ndjsonRow("Bolt")), Format.NDJSON, 2, 0, events::add);
+
+            // Then
+            assertThat(events.get(1).failures()).singleElement()
+                .satisfies(failure -> assertThat(failure.index()).isEqualTo(2));
+            assertThat(result.status()).isEqualTo(InventoryItemImportProgress.Status.COMPLETED);
+            assertThat(result.created()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(1);
+        }
+    }
+
+    // ========================================
+    // RESUME TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Resume Tests")
+    class ResumeTests {
+
+        @Test
+        @DisplayName("importItems_withResumeFrom_skipsCommittedRows")
+        void importItems_withResumeFrom_skipsCommittedRows() {
+            // When
+            InventoryItemImportProgress result = importService.importItems(csv(7), Format.CSV, 3, 4, events::add);
+
+            // Then
+            assertThat(committedChunks).containsExactly(List.of("Item 4", "Item 5", "Item 6"));
+            assertThat(result.nextRow()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("importItems_withMalformedRow_abortsAtFirstUncommittedRow")
+        void importItems_withMalformedRow_abortsAtFirstUncommittedRow() {
+            // When
+            InventoryItemImportProgress result = importService.importItems(
+                ndjson(ndjsonRow("Bolt"), ndjsonRow("Nut"), ndjsonRow("Gear"), "{not json"), Format.NDJSON, 2, 0, events::add);
+
+            // Then
+            assertThat(committedChunks).containsExactly(List.of("Bolt", "Nut"));
+            assertThat(result.status()).isEqualTo(InventoryItemImportProgress.Status.ABORTED);
+            assertThat(result.nextRow()).isEqualTo(2);
+            assertThat(events.getLast()).isEqualTo(result);
+            verify(messageService).getMessage(eq("import.aborted"), eq("2"), anyString());
+        }
+
+        @Test
+        @DisplayName("importItems_whenChunkFails_abortsWithoutAdvancingNextRow")
+        void importItems_whenChunkFails_abortsWithoutAdvancingNextRow() {
+            // Given
+            when(inventoryItemService.saveAll(anyList()))
+                .thenReturn(new InventoryItemBatchResponse(2, 2, 0, List.of()))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+            // When
+            InventoryItemImportProgress result = importService.importItems(csv(5), Format.CSV, 2, 0, events::add);
+
+            // Then
+            assertThat(result.status()).isEqualTo(InventoryItemImportProgress.Status.ABORTED);
+            assertThat(result.nextRow()).isEqualTo(2);
+            assertThat(result.created()).isEqualTo(2);
+        }
+    }
+
+}
@@ -1,25 +1,53 @@
 package com.elara.app.inventory_service.service.imp;
 
+import com.elara.app.inventory_service.cache.UomVerificationCache;
+import com.elara.app.inventory_service.config.AppConfig;
 import com.elara.app.inventory_service.dto.response.UomResponse;
 import com.elara.app.inventory_service.exceptions.ResourceNotFoundException;
+import com.elara.app.inventory_service.exceptions.ServiceUnavailableException;
 import com.elara.app.inventory_service.utils.MessageService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.net.URI;
-
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,9 +63,39 @@ class UomServiceClientImpTest {
     @Mock
     private MessageService messageService;
 
-    @InjectMocks
+    private UomVerificationCache verificationCache;
+
+
+    private CircuitBreaker circuitBreaker;
+
+    private Bulkhead bulkhead;
+
+    private Bulkhead asyncBulkhead;
+
+    private final AtomicInteger asyncCalls = new AtomicInteger();
+
+    private Function<ClientRequest, Mono<ClientResponse>> exchange = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
     private UomServiceClientImp uomServiceClient;
 
+    @BeforeEach
+    void setUp() {
+        verificationCache = new UomVerificationCache(Duration.ofMinutes(30), Duration.ofMinutes(1), Duration.ofHours(2), 100, new SimpleMeterRegistry());
+        circuitBreaker = CircuitBreaker.ofDefaults(AppConfig.UOM_POOL_NAME);
+        bulkhead = Bulkhead.ofDefaults(AppConfig.UOM_POOL_NAME);
+        asyncBulkhead = Bulkhead.ofDefaults(AppConfig.UOM_ASYNC_BULKHEAD_NAME);
+        uomServiceClient = newClient();
+    }
+
+    private UomServiceClientImp newClient() {
+        WebClient webClient = WebClient.builder().exchangeFunction(request -> {
+            asyncCalls.incrementAndGet();
+            return exchange.apply(request);
+        }).build();
+        return new UomServiceClientImp(restTemplate, webClient, messageService, verificationCache,
+            circuitBreaker, bulkhead, asyncBulkhead);
+    }
+
     @AfterEach
     void tearDown() {
         reset(restTemplate, messageService);
@@ -254,4 +312,449 @@ class UomServiceClientImpTest {
             ), eq(UomResponse.class));
         }
     }
+
+    // ========================================
+    // VERIFICATION CACHE TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Verification Cache Tests")
+    class VerificationCacheTests {
+
+        @Test
+        @DisplayName("verifyUomById_withRepeatedValidId_callsRemoteServiceOnce")
+        void verifyUomById_withRepeatedValidId_callsRemoteServiceOnce() {
+            // Given
+            Long uomId = 1L;
+            setUomServiceName("unit-of-measure-service");
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class)))
+                .thenReturn(ResponseEntity.ok(createStandardUomResponse()));
+            when(messageService.getMessage(anyString(), anyString())).thenReturn("Success message");
+
+            // When
+            uomServiceClient.verifyUomById(uomId);
+            uomServiceClient.verifyUomById(uomId);
+            uomServiceClient.verifyUomById(uomId);
+
+            // Then
+            verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(UomResponse.class));
+            assertThat(verificationCache.stats().hitCount()).isEqualTo(2);
+            assertThat(verificationCache.getIfPresent(uomId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withRepeatedMissingId_usesNegativeCacheEntry")
+        void verifyUomById_withRepeatedMissingId_usesNegativeCacheEntry() {
+            // Given
+            Long uomId = 999L;
+            setUomServiceName("unit-of-measure-service");
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class)))
+                .thenThrow(HttpClientErrorException.NotFound.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+            when(messageService.getMessage(anyString(), anyString(), anyString(), anyString())).thenReturn("not found");
+
+            // When & Then
+            assertThatThrownBy(() -> uomServiceClient.verifyUomById(uomId)).isInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> uomServiceClient.verifyUomById(uomId)).isInstanceOf(ResourceNotFoundException.class);
+
+            verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(UomResponse.class));
+            assertThat(verificationCache.getIfPresent(uomId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withServiceFailure_doesNotCacheResult")
+        void verifyUomById_withServiceFailure_doesNotCacheResult() {
+            // Given
+            Long uomId = 1L;
+            setUomServiceName("unit-of-measure-service");
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class)))
+                .thenThrow(new RuntimeException("Service unavailable"));
+
+            // When & Then
+            assertThatThrownBy(() -> uomServiceClient.verifyUomById(uomId)).isInstanceOf(RuntimeException.class);
+            assertThat(verificationCache.getIfPresent(uomId)).isNull();
+        }
+    }
+
+    // ========================================
+    // REQUEST COALESCING TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Request Coalescing Tests")
+    class RequestCoalescingTests {
+
+        private static final int CALLERS = 8;
+
+        private List<Future<Throwable>> verifyConcurrently(ExecutorService executor, Long uomId) {
+            List<Future<Throwable>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        uomServiceClient.verifyUomById(uomId);
+                        return null;
+                    } catch (Throwable t) {
+                        return t;
+                    }
+                }));
+            }
+            return results;
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withConcurrentCallersForSameId_sharesOneRemoteCall")
+        void verifyUomById_withConcurrentCallersForSameId_sharesOneRemoteCall() throws Exception {
+            // Given
+            Long uomId = 1L;
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            setUomServiceName("unit-of-measure-service");
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class))).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return ResponseEntity.ok(createStandardUomResponse());
+            });
+            when(messageService.getMessage(anyString(), anyString())).thenReturn("Success message");
+            ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+            try {
+                // When
+                List<Future<Throwable>> results = verifyConcurrently(executor, uomId);
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                Thread.sleep(100);
+                release.countDown();
+
+                // Then
+                for (Future<Throwable> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isNull();
+                }
+                verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(UomResponse.class));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withConcurrentCallersAndRemoteFailure_sharesTheFailure")
+        void verifyUomById_withConcurrentCallersAndRemoteFailure_sharesTheFailure() throws Exception {
+            // Given
+            Long uomId = 1L;
+            RuntimeException failure = new RuntimeException("Service unavailable");
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            setUomServiceName("unit-of-measure-service");
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class))).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                throw failure;
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+            try {
+                // When
+                List<Future<Throwable>> results = verifyConcurrently(executor, uomId);
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                Thread.sleep(100);
+                release.countDown();
+
+                // Then
+                for (Future<Throwable> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(failure);
+                }
+                verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(UomResponse.class));
+                assertThat(verificationCache.getIfPresent(uomId)).isNull();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // ========================================
+    // ASYNC VERIFICATION TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Async Verification Tests")
+    class AsyncVerificationTests {
+
+        private void stubAsyncRemoteWithMissingIds(Set<Long> missingIds) {
+            exchange = request -> {
+                String path = request.url().getPath();
+                Long id = Long.valueOf(path.substring(path.lastIndexOf('/') + 1));
+                return Mono.just(ClientResponse.create(missingIds.contains(id) ? HttpStatus.NOT_FOUND : HttpStatus.OK).build());
+            };
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withExistingId_completesAndCachesResult")
+        void verifyUomByIdAsync_withExistingId_completesAndCachesResult() {
+            // Given
+            setUomServiceName("unit-of-measure-service");
+
+            // When
+            uomServiceClient.verifyUomByIdAsync(1L).join();
+
+            // Then
+            assertThat(verificationCache.getIfPresent(1L)).isTrue();
+            assertThat(asyncCalls).hasValue(1);
+            verifyNoInteractions(restTemplate);
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withMissingId_completesWithResourceNotFoundException")
+        void verifyUomByIdAsync_withMissingId_completesWithResourceNotFoundException() {
+            // Given
+            setUomServiceName("unit-of-measure-service");
+            stubAsyncRemoteWithMissingIds(Set.of(9L));
+            when(messageService.getMessage("crud.not.found", "UOM", "id", "9")).thenReturn("UOM with id '9' not found");
+
+            // When & Then
+            assertThatThrownBy(() -> uomServiceClient.verifyUomByIdAsync(9L).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+            assertThat(verificationCache.getIfPresent(9L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withCachedId_skipsRemoteCall")
+        void verifyUomByIdAsync_withCachedId_skipsRemoteCall() {
+            // Given
+            verificationCache.put(1L, true);
+
+            // When
+            uomServiceClient.verifyUomByIdAsync(1L).join();
+
+            // Then
+            assertThat(asyncCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withServerError_failsWithoutCaching")
+        void verifyUomByIdAsync_withServerError_failsWithoutCaching() {
+            // Given
+            setUomServiceName("unit-of-measure-service");
+            exchange = request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+            // When & Then
+            assertThatThrownBy(() -> uomServiceClient.verifyUomByIdAsync(1L).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(WebClientResponseException.InternalServerError.class);
+            assertThat(verificationCache.getIfPresent(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("verifyUomIdsAsync_withMissingCachedAndDuplicateIds_returnsEveryInvalidIdOnce")
+        void verifyUomIdsAsync_withMissingCachedAndDuplicateIds_returnsEveryInvalidIdOnce() {
+            // Given
+            setUomServiceName("unit-of-measure-service");
+            verificationCache.put(5L, false);
+            stubAsyncRemoteWithMissingIds(Set.of(7L, 8L));
+
+            // When
+            Set<Long> invalid = uomServiceClient.verifyUomIdsAsync(List.of(1L, 7L, 2L, 8L, 7L, 5L)).join();
+
+            // Then
+            assertThat(invalid).containsExactly(5L, 7L, 8L);
+            assertThat(asyncCalls).hasValue(4);
+            assertThat(verificationCache.getIfPresent(2L)).isTrue();
+        }
+    }
+
+    // ========================================
+    // RESILIENCE TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Circuit Breaker and Bulkhead Tests")
+    class ResilienceTests {
+
+        private static final String UNAVAILABLE_MESSAGE = "Service is temporarily unavailable. Please try again later.";
+
+        private final AppConfig appConfig = new AppConfig();
+        private CircuitBreakerRegistry circuitBreakerRegistry;
+        private BulkheadRegistry bulkheadRegistry;
+
+        @BeforeEach
+        void setUpResilience() {
+            // Regular entries expire at once, so every call reaches the guarded path
+            verificationCache = new UomVerificationCache(Duration.ZERO, Duration.ZERO, Duration.ofHours(2), 100, new SimpleMeterRegistry());
+            circuitBreakerRegistry = appConfig.uomCircuitBreakerRegistry(50, 50, Duration.ofSeconds(2), 2, 2,
+                Duration.ofSeconds(30), 1);
+            bulkheadRegistry = appConfig.uomBulkheadRegistry(1, Duration.ZERO);
+            circuitBreaker = appConfig.uomCircuitBreaker(circuitBreakerRegistry);
+            bulkhead = appConfig.uomBulkhead(bulkheadRegistry);
+            asyncBulkhead = appConfig.uomAsyncBulkhead(bulkheadRegistry);
+            uomServiceClient = newClient();
+            setUomServiceName("unit-of-measure-service");
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withOpenCircuit_throwsServiceUnavailableWithoutRemoteCall")
+        void verifyUomById_withOpenCircuit_throwsServiceUnavailableWithoutRemoteCall() {
+            // Given
+            circuitBreaker.transitionToOpenState();
+            when(messageService.getMessage("global.error.service.unavailable")).thenReturn(UNAVAILABLE_MESSAGE);
+
+            // When & Then
+            assertThatThrownBy(() -> uomServiceClient.verifyUomById(1L))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(UNAVAILABLE_MESSAGE);
+            verifyNoInteractions(restTemplate);
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withOpenCircuitAndRecentlyConfirmedId_acceptsId")
+        void verifyUomById_withOpenCircuitAndRecentlyConfirmedId_acceptsId() {
+            // Given
+            verificationCache.put(1L, true);
+            circuitBreaker.transitionToOpenState();
+
+            // When & Then
+            assertThatCode(() -> uomServiceClient.verifyUomById(1L)).doesNotThrowAnyException();
+            verifyNoInteractions(restTemplate);
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withRemoteFailureAndRecentlyConfirmedId_acceptsId")
+        void verifyUomById_withRemoteFailureAndRecentlyConfirmedId_acceptsId() {
+            // Given
+            verificationCache.put(1L, true);
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+            // When & Then
+            assertThatCode(() -> uomServiceClient.verifyUomById(1L)).doesNotThrowAnyException();
+            verify(restTemplate).getForEntity(any(URI.class), eq(UomResponse.class));
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withRepeatedServerErrors_opensCircuit")
+        void verifyUomById_withRepeatedServerErrors_opensCircuit() {
+            // Given
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+            when(messageService.getMessage("global.error.service.unavailable")).thenReturn(UNAVAILABLE_MESSAGE);
+
+            // When
+            for (long id = 1; id <= 2; id++) {
+                long uomId = id;
+                assertThatThrownBy(() -> uomServiceClient.verifyUomById(uomId)).isInstanceOf(ResourceAccessException.class);
+            }
+
+            // Then
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThatThrownBy(() -> uomServiceClient.verifyUomById(3L)).isInstanceOf(ServiceUnavailableException.class);
+            verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(UomResponse.class));
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withClientErrors_keepsCircuitClosed")
+        void verifyUomById_withClientErrors_keepsCircuitClosed() {
+            // Given
+            when(restTemplate.getForEntity(any(URI.class), eq(UomResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+            // When
+            for (long id = 1; id <= 3; id++) {
+                long uomId = id;
+                assertThatThrownBy(() -> uomServiceClient.verifyUomById(uomId)).isInstanceOf(HttpClientErrorException.class);
+            }
+
+            // Then
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("verifyUomById_withFullBulkhead_throwsServiceUnavailableAndCountsRejection")
+        void verifyUomById_withFullBulkhead_throwsServiceUnavailableAndCountsRejection() {
+            // Given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            appConfig.uomResilienceMetrics(circuitBreakerRegistry, bulkheadRegistry, bulkhead, asyncBulkhead).bindTo(meterRegistry);
+            when(messageService.getMessage("global.error.service.unavailable")).thenReturn(UNAVAILABLE_MESSAGE);
+            assertThat(bulkhead.tryAcquirePermission()).isTrue();
+
+            // When & Then
+            try {
+                assertThatThrownBy(() -> uomServiceClient.verifyUomById(1L)).isInstanceOf(ServiceUnavailableException.class);
+            } finally {
+                bulkhead.onComplete();
+            }
+            verifyNoInteractions(restTemplate);
+            assertThat(meterRegistry.get(AppConfig.UOM_BULKHEAD_REJECTED_METRIC).tag("name", AppConfig.UOM_POOL_NAME)
+                .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withFullBulkheadAndMaxWait_rejectsWithoutWaiting")
+        void verifyUomByIdAsync_withFullBulkheadAndMaxWait_rejectsWithoutWaiting() {
+            // Given: blocking callers may wait up to 5s, non-blocking ones never wait
+            bulkheadRegistry = appConfig.uomBulkheadRegistry(1, Duration.ofSeconds(5));
+            bulkhead = appConfig.uomBulkhead(bulkheadRegistry);
+            asyncBulkhead = appConfig.uomAsyncBulkhead(bulkheadRegistry);
+            uomServiceClient = newClient();
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            appConfig.uomResilienceMetrics(circuitBreakerRegistry, bulkheadRegistry, bulkhead, asyncBulkhead).bindTo(meterRegistry);
+            when(messageService.getMessage("global.error.service.unavailable")).thenReturn(UNAVAILABLE_MESSAGE);
+            assertThat(asyncBulkhead.getBulkheadConfig().getMaxWaitDuration()).isZero();
+            assertThat(asyncBulkhead.tryAcquirePermission()).isTrue();
+
+            // When
+            long start = System.nanoTime();
+            CompletableFuture<Void> verification;
+            try {
+                verification = uomServiceClient.verifyUomByIdAsync(1L);
+            } finally {
+                asyncBulkhead.onComplete();
+            }
+
+            // Then
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            assertThatThrownBy(verification::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+            assertThat(asyncCalls).hasValue(0);
+            assertThat(meterRegistry.get(AppConfig.UOM_BULKHEAD_REJECTED_METRIC).tag("name", AppConfig.UOM_ASYNC_BULKHEAD_NAME)
+                .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("uomResilienceMetrics_whenBound_publishesCircuitBreakerState")
+        void uomResilienceMetrics_whenBound_publishesCircuitBreakerState() {
+            // Given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            appConfig.uomResilienceMetrics(circuitBreakerRegistry, bulkheadRegistry, bulkhead, asyncBulkhead).bindTo(meterRegistry);
+
+            // When
+            circuitBreaker.transitionToOpenState();
+
+            // Then
+            assertThat(meterRegistry.get("resilience4j.circuitbreaker.state").tag("name", AppConfig.UOM_POOL_NAME)
+                .tag("state", "open").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withOpenCircuit_completesWithServiceUnavailableException")
+        void verifyUomByIdAsync_withOpenCircuit_completesWithServiceUnavailableException() {
+            // Given
+            circuitBreaker.transitionToOpenState();
+            when(messageService.getMessage("global.error.service.unavailable")).thenReturn(UNAVAILABLE_MESSAGE);
+
+            // When & Then
+            assertThatThrownBy(() -> uomServiceClient.verifyUomByIdAsync(1L).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+            assertThat(asyncCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("verifyUomByIdAsync_withServerErrorAndRecentlyConfirmedId_completesNormally")
+        void verifyUomByIdAsync_withServerErrorAndRecentlyConfirmedId_completesNormally() {
+            // Given
+            verificationCache.put(1L, true);
+            exchange = request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+
+            // When & Then
+            assertThatCode(() -> uomServiceClient.verifyUomByIdAsync(1L).join()).doesNotThrowAnyException();
+            assertThat(asyncCalls).hasValue(1);
+        }
+    }
 }
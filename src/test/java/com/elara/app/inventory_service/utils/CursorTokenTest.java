@@ -0,0 +1,49 @@
+package com.elara.app.inventory_service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorToken")
+class CursorTokenTest {
+
+    @Test
+    @DisplayName("Encoded token decodes to a forward position after the same name and id")
+    void decode_withEncodedToken_returnsForwardPosition() {
+        // Given
+        String token = CursorToken.encode("Steel Bolt: M10/ñ", 42L);
+
+        // When
+        KeysetScrollPosition position = CursorToken.decode(token);
+
+        // Then
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(position.scrollsForward()).isTrue();
+        assertThat(position.getKeys()).containsEntry("name", "Steel Bolt: M10/ñ").containsEntry("id", 42L);
+    }
+
+    @Test
+    @DisplayName("Blank token, returns the initial position")
+    void decode_withBlankToken_returnsInitialPosition() {
+        assertThat(CursorToken.decode(null).isInitial()).isTrue();
+        assertThat(CursorToken.decode(" ").isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tampered token, throws IllegalArgumentException")
+    void decode_withTamperedToken_throws() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("garbage".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("x:Bolt".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorToken.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorToken.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorToken.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}